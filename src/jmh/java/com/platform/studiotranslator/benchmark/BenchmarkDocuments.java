@@ -0,0 +1,62 @@
+package com.platform.studiotranslator.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test documents for the benchmarks, built from a real Google Docs export kept in {@code src/jmh/resources}.
+ */
+final class BenchmarkDocuments {
+
+    private static final String SAMPLE = "/google-doc-export-sample.html";
+
+    private BenchmarkDocuments() {
+    }
+
+    /**
+     * The sample export with its body repeated until the whole document is at least {@code targetChars} long.
+     */
+    static String googleDocExport(int targetChars) {
+        String sample = load(SAMPLE);
+        int bodyStart = sample.indexOf('>', sample.indexOf("<body")) + 1;
+        int bodyEnd = sample.lastIndexOf("</body>");
+
+        String head = sample.substring(0, bodyStart);
+        String body = sample.substring(bodyStart, bodyEnd);
+        String tail = sample.substring(bodyEnd);
+
+        StringBuilder sb = new StringBuilder(targetChars + sample.length());
+        sb.append(head);
+        do {
+            sb.append(body);
+        } while (sb.length() + tail.length() < targetChars);
+        return sb.append(tail).toString();
+    }
+
+    /**
+     * Normalized chapter HTML in Chinese/Japanese, at least {@code targetChars} long.
+     */
+    static String cjkChapter(int targetChars) {
+        String[] paragraphs = {
+                "<p>银行门口的队伍从黎明起就越来越长。<strong>有人</strong>在分行网站上贴了一则通知，措辞丝毫没有让人安心。</p>",
+                "<p>「一時的なものです」と書いてあった。まるでその<em>言葉</em>だけで群衆を抑えられるかのように。</p>",
+                "<p>金库的数目又少了——不算多，但足以让审计师再问一遍三月份问过的问题。</p>"
+        };
+        StringBuilder sb = new StringBuilder(targetChars + 256);
+        for (int i = 0; sb.length() < targetChars; i++) {
+            sb.append(paragraphs[i % paragraphs.length]);
+        }
+        return sb.toString();
+    }
+
+    static String load(String resource) {
+        try (InputStream in = BenchmarkDocuments.class.getResourceAsStream(resource)) {
+            if (in == null) throw new IllegalArgumentException("Missing benchmark resource " + resource);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.platform.studiotranslator.benchmark;
+
+import com.platform.studiotranslator.service.googledoc.GoogleDocHtmlNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the sync-time HTML normalizer on Google Docs exports of different sizes.
+ * <p>
+ * The sample export is repeated until the body reaches {@code sizeKb}. Setup prints the
+ * payload reduction so size and speed can be read from the same run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HtmlNormalizerBenchmark {
+
+    @Param({"10", "100", "500", "2000"})
+    private int sizeKb;
+
+    private final GoogleDocHtmlNormalizer normalizer = new GoogleDocHtmlNormalizer();
+    private String html;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        html = BenchmarkDocuments.googleDocExport(sizeKb * 1024);
+
+        int normalizedLength = normalizer.normalize(html).length();
+        System.out.printf("%n[%d KB] %d -> %d chars (%.1f%% smaller)%n",
+                sizeKb, html.length(), normalizedLength, 100.0 * (html.length() - normalizedLength) / html.length());
+    }
+
+    @Benchmark
+    public String normalize() {
+        return normalizer.normalize(html);
+    }
+}
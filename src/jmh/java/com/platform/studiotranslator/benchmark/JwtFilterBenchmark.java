@@ -0,0 +1,157 @@
+package com.platform.studiotranslator.benchmark;
+
+import com.platform.studiotranslator.config.filter.JwtAuthenticationFilter;
+import com.platform.studiotranslator.constant.Role;
+import com.platform.studiotranslator.entity.UserEntity;
+import com.platform.studiotranslator.repository.RevokedTokenRepository;
+import com.platform.studiotranslator.service.auth.JwtService;
+import com.platform.studiotranslator.service.auth.TokenClaims;
+import com.platform.studiotranslator.service.auth.TokenRevocationStore;
+import com.platform.studiotranslator.service.cache.UserCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.SecretKey;
+import java.lang.reflect.Proxy;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Bearer-token authentication: {@link JwtAuthenticationFilter} end to end, {@link JwtService#verify(String)} alone,
+ * the validation it replaced (key and parser rebuilt per call, three parses per token, and the user lookup,
+ * here served from memory so only the JWT work is compared), and the revocation check against 100k revoked ids.
+ * <p>
+ * Run with {@code -prof gc}: most of the old cost is allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final long ONE_DAY = 86_400_000L;
+
+    private String secret;
+    private JwtService jwtService;
+    private JwtAuthenticationFilter filter;
+    private TokenRevocationStore revocationStore;
+    private UUID[] probes;
+    private int probe;
+    private UserEntity user;
+    private String token;
+
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        secret = Encoders.BASE64.encode(key);
+
+        jwtService = new JwtService(secret, ONE_DAY, 7 * ONE_DAY);
+        UserCache userCache = new UserCache(null, new SimpleMeterRegistry(), 60_000, 10_000, ONE_DAY);
+        revocationStore = new TokenRevocationStore(revokedTokens(100_000), new SimpleMeterRegistry(), 0.01, 10_000);
+        revocationStore.rebuild();
+        probes = Stream.generate(UUID::randomUUID).limit(1024).toArray(UUID[]::new);
+        filter = new JwtAuthenticationFilter(jwtService, userCache, revocationStore);
+
+        user = UserEntity.builder()
+                .email("translator@example.com")
+                .displayName("translator")
+                .role(Role.TRANSLATOR)
+                .build();
+        token = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Authentication filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/chapters/resyncs/1");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return auth;
+    }
+
+    @Benchmark
+    public TokenClaims verify() {
+        return jwtService.verify(token);
+    }
+
+    @Benchmark
+    public boolean revocationCheck() {
+        return revocationStore.isRevoked(probes[probe++ & (probes.length - 1)]);
+    }
+
+    @Benchmark
+    public boolean previousValidation() {
+        String email = extractClaim(token, Claims::getSubject);
+        UserDetails userDetails = user; // was UserDetailsService -> UserRepository.findByEmail
+        return email.equals(userDetails.getUsername()) && isTokenValid(token, userDetails);
+    }
+
+    // The JwtService implementation before the cached key and parser
+
+    private boolean isTokenValid(String token, UserDetails userDetails) {
+        final String username = extractClaim(token, Claims::getSubject);
+        return (username.equals(userDetails.getUsername()))
+                && !extractClaim(token, Claims::getExpiration).before(new Date());
+    }
+
+    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+        Claims claims = Jwts.parser()
+                .verifyWith(getSignInKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        return claimsResolver.apply(claims);
+    }
+
+    private SecretKey getSignInKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+
+    // Stands in for the table: the revoked ids for the filter, and "not revoked" for the (1%) lookups it lets through
+    private static RevokedTokenRepository revokedTokens(int count) {
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(count).toList();
+        return (RevokedTokenRepository) Proxy.newProxyInstance(RevokedTokenRepository.class.getClassLoader(),
+                new Class<?>[]{RevokedTokenRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findUnexpiredIds" -> ids;
+                    case "deleteExpired" -> 0;
+                    case "existsById" -> false;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
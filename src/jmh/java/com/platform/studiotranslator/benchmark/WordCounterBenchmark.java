@@ -0,0 +1,76 @@
+package com.platform.studiotranslator.benchmark;
+
+import com.platform.studiotranslator.service.googledoc.GoogleDocHtmlNormalizer;
+import com.platform.studiotranslator.util.WordCount;
+import com.platform.studiotranslator.util.WordCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WordCounter} against the regex tag-strip + split it replaced.
+ * <p>
+ * Run with {@code -prof gc} to compare allocation per operation as well as throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WordCounterBenchmark {
+
+    @Param({"10", "100", "500", "2000"})
+    private int sizeKb;
+
+    @Param({"latin", "cjk"})
+    private String script;
+
+    private String html;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int targetChars = sizeKb * 1024;
+        html = "cjk".equals(script)
+                ? BenchmarkDocuments.cjkChapter(targetChars)
+                : new GoogleDocHtmlNormalizer().normalize(BenchmarkDocuments.googleDocExport(targetChars * 5 / 3));
+
+        System.out.printf("%n[%d KB %s] regex: %d words, scanner: %s%n",
+                sizeKb, script, regexCount(html), WordCounter.count(html));
+    }
+
+    @Benchmark
+    public WordCount scanner() {
+        return WordCounter.count(html);
+    }
+
+    // What the sync path calls: no per-script counters
+    @Benchmark
+    public int scannerTotal() {
+        return WordCounter.countWords(html);
+    }
+
+    @Benchmark
+    public int regex() {
+        return regexCount(html);
+    }
+
+    // The implementation ChapterService used before WordCounter
+    private static int regexCount(String html) {
+        if (html == null || html.isEmpty()) return 0;
+        String text = html.replaceAll("<[^>]*>", " ");
+        String[] words = text.trim().split("\\s+");
+        return words.length;
+    }
+}
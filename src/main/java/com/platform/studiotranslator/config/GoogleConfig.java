@@ -1,6 +1,7 @@
 package com.platform.studiotranslator.config;
 
 import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.HttpRequestInitializer;
 import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.services.drive.Drive;
 import com.google.api.services.drive.DriveScopes;
@@ -28,6 +29,16 @@ public class GoogleConfig {
     @Value("${application.google.refresh-token}")
     private String refreshToken;
 
+    // Override to point the client at a local fake Drive server
+    @Value("${application.google.drive.root-url:}")
+    private String rootUrl;
+
+    @Value("${application.google.drive.connect-timeout:5000}")
+    private int connectTimeout;
+
+    @Value("${application.google.drive.read-timeout:30000}")
+    private int readTimeout;
+
     @Bean
     public Drive driveService() throws GeneralSecurityException, IOException {
         UserCredentials credentials = UserCredentials.newBuilder()
@@ -36,11 +47,23 @@ public class GoogleConfig {
                 .setRefreshToken(refreshToken)
                 .build();
 
-        return new Drive.Builder(
+        HttpCredentialsAdapter credentialsAdapter = new HttpCredentialsAdapter(credentials);
+        // Library defaults are 20s connect / 20s read; retries are DriveClient's job, not the transport's
+        HttpRequestInitializer initializer = request -> {
+            credentialsAdapter.initialize(request);
+            request.setConnectTimeout(connectTimeout);
+            request.setReadTimeout(readTimeout);
+        };
+
+        Drive.Builder builder = new Drive.Builder(
                 GoogleNetHttpTransport.newTrustedTransport(),
                 GsonFactory.getDefaultInstance(),
-                new HttpCredentialsAdapter(credentials))
-                .setApplicationName("TranslatorStudio")
-                .build();
+                initializer)
+                .setApplicationName("TranslatorStudio");
+
+        if (!rootUrl.isBlank()) {
+            builder.setRootUrl(rootUrl);
+        }
+        return builder.build();
     }
 }
@@ -0,0 +1,17 @@
+package com.platform.studiotranslator.config;
+
+import com.platform.studiotranslator.config.metrics.DatabaseUsageMetrics;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // Transactions are counted by the same bean: Boot registers TransactionExecutionListener beans on its own
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer(DatabaseUsageMetrics databaseUsageMetrics) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, databaseUsageMetrics);
+    }
+}
@@ -40,6 +40,10 @@ public class SecurityConfig {
                         .requestMatchers("/api/swagger-ui/**", "/api/api-docs/**").permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
 
+                        // Served on the management port (not exposed publicly): probes and the Prometheus scrape
+                        .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         .requestMatchers("/api/projects/mine").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/projects", "/api/projects/*").permitAll()
 
@@ -0,0 +1,39 @@
+package com.platform.studiotranslator.config;
+
+import com.platform.studiotranslator.config.logging.AccessLogProperties;
+import com.platform.studiotranslator.config.logging.HandlerTimingInterceptor;
+import com.platform.studiotranslator.config.metrics.DatabaseUsageMetrics;
+import com.platform.studiotranslator.config.resolver.CurrentUserArgumentResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+// Ordered first: our UserEntity resolver must run before Spring Security's generic @AuthenticationPrincipal resolver
+@Configuration
+@EnableConfigurationProperties(AccessLogProperties.class)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final HandlerTimingInterceptor handlerTimingInterceptor;
+    private final DatabaseUsageMetrics databaseUsageMetrics;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(handlerTimingInterceptor);
+        registry.addInterceptor(databaseUsageMetrics);
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+}
@@ -0,0 +1,221 @@
+package com.platform.studiotranslator.config.filter;
+
+import com.platform.studiotranslator.config.logging.AccessLogProperties;
+import com.platform.studiotranslator.config.logging.HandlerTimingInterceptor;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Access log: at most one compact {@code key=value} line per request, on the {@code ACCESS_LOG} logger
+ * (asynchronous appender, see {@code logback-spring.xml}).
+ * <p>
+ * Requests are sampled per route; 5xx responses and slow requests are always logged. Only the configured headers
+ * are included, with credentials masked, and request bodies are only captured on routes that opt in. The request
+ * id is put in the MDC (so every log line of the request carries it) and returned as {@code X-Request-Id}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS_LOG");
+
+    // Client-supplied ids are kept only when they cannot break the line
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private record CompiledRoute(PathPattern pattern, double sampleRate, boolean captureBody) {}
+
+    private final AccessLogProperties properties;
+    private final List<CompiledRoute> routes;
+    private final Set<String> redactedHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    public AccessLogFilter(AccessLogProperties properties) {
+        this.properties = properties;
+        this.routes = properties.routes().stream()
+                .map(route -> new CompiledRoute(
+                        PathPatternParser.defaultInstance.parse(route.pattern()),
+                        route.sampleRate() != null ? route.sampleRate() : properties.sampleRate(),
+                        route.captureBody()))
+                .toList();
+        this.redactedHeaders.addAll(properties.redactedHeaders());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString().substring(0, 8);
+        }
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        CompiledRoute route = match(request);
+        HttpServletRequest req = route != null && route.captureBody()
+                ? new ContentCachingRequestWrapper(request, properties.maxBodyBytes())
+                : request;
+
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            filterChain.doFilter(req, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            if (!failed && req.isAsyncStarted()) {
+                // Async handler: the status and duration are only known once the response completes
+                String id = requestId;
+                req.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        log(route, req, id, response.getStatus(), System.nanoTime() - start);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                log(route, req, requestId, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(),
+                        System.nanoTime() - start);
+            }
+            MDC.remove(REQUEST_ID_MDC_KEY);
+        }
+    }
+
+    private void log(CompiledRoute route, HttpServletRequest request, String requestId, int status, long nanos) {
+        if (shouldLog(route, status, nanos)) {
+            accessLog.info(line(request, requestId, status, nanos));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.enabled();
+    }
+
+    private CompiledRoute match(HttpServletRequest request) {
+        if (routes.isEmpty()) return null;
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (CompiledRoute route : routes) {
+            if (route.pattern().matches(path)) return route;
+        }
+        return null;
+    }
+
+    private boolean shouldLog(CompiledRoute route, int status, long nanos) {
+        if (status >= 500 || nanos >= properties.slowThresholdMs() * 1_000_000) return true;
+        double rate = route != null ? route.sampleRate() : properties.sampleRate();
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private String line(HttpServletRequest request, String requestId, int status, long nanos) {
+        StringBuilder line = new StringBuilder(256);
+        append(line, "id", requestId);
+        append(line, "method", request.getMethod());
+        // No query string: it may carry tokens
+        append(line, "path", request.getRequestURI());
+        append(line, "route", request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        append(line, "handler", request.getAttribute(HandlerTimingInterceptor.HANDLER_ATTRIBUTE));
+        append(line, "status", status);
+        append(line, "ms", millis(nanos));
+        if (request.getAttribute(HandlerTimingInterceptor.HANDLER_NANOS_ATTRIBUTE) instanceof Long handlerNanos) {
+            append(line, "handlerMs", millis(handlerNanos));
+        }
+        append(line, "user", request.getAttribute(HandlerTimingInterceptor.USER_ATTRIBUTE));
+
+        for (String header : properties.headers()) {
+            String value = request.getHeader(header);
+            if (value != null) append(line, header.toLowerCase(), redact(header, value));
+        }
+
+        if (request instanceof ContentCachingRequestWrapper cached) {
+            byte[] body = cached.getContentAsByteArray();
+            if (body.length > 0) {
+                append(line, "body", new String(Arrays.copyOf(body, Math.min(body.length, properties.maxBodyBytes())),
+                        StandardCharsets.UTF_8));
+            }
+        }
+        return line.toString();
+    }
+
+    private String redact(String header, String value) {
+        if (!redactedHeaders.contains(header)) return value;
+        // Keep the scheme ("Bearer ***"): useful when debugging auth, harmless to log
+        int space = value.indexOf(' ');
+        return space > 0 ? value.substring(0, space) + " ***" : "***";
+    }
+
+    private static String millis(long nanos) {
+        return String.valueOf(Math.round(nanos / 100_000.0) / 10.0);
+    }
+
+    // logfmt: values with spaces, quotes or '=' are quoted; line breaks are escaped so a line stays a line
+    private static void append(StringBuilder line, String key, Object value) {
+        if (value == null) return;
+        String text = value.toString();
+        if (!line.isEmpty()) line.append(' ');
+        line.append(key).append('=');
+
+        boolean quote = text.isEmpty() || text.chars().anyMatch(c -> c == ' ' || c == '"' || c == '=' || c < 0x20);
+        if (!quote) {
+            line.append(text);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> line.append(c < 0x20 ? ' ' : c);
+            }
+        }
+        line.append('"');
+    }
+}
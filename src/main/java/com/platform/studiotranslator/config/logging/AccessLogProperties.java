@@ -0,0 +1,37 @@
+package com.platform.studiotranslator.config.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * {@code application.access-log.*}: one line per sampled request, see
+ * {@link com.platform.studiotranslator.config.filter.AccessLogFilter}.
+ *
+ * @param sampleRate      share of requests logged on routes without their own rate (0..1)
+ * @param slowThresholdMs requests slower than this are always logged, as are 5xx responses
+ * @param headers         request headers included in the line
+ * @param redactedHeaders headers whose value is masked when included
+ * @param maxBodyBytes    cap on the request body logged for {@code capture-body} routes
+ * @param routes          per-route overrides, first matching pattern wins
+ */
+@ConfigurationProperties(prefix = "application.access-log")
+public record AccessLogProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1.0") double sampleRate,
+        @DefaultValue("1000") long slowThresholdMs,
+        @DefaultValue("User-Agent") List<String> headers,
+        @DefaultValue({"Authorization", "Cookie", "Set-Cookie"}) List<String> redactedHeaders,
+        @DefaultValue("2048") int maxBodyBytes,
+        @DefaultValue List<Route> routes
+) {
+
+    /**
+     * @param pattern     a path pattern such as {@code /api/chapters/{id}} or {@code /api/auth/**}
+     * @param sampleRate  replaces the default rate for this route
+     * @param captureBody log (the start of) the request body; off everywhere unless enabled here
+     */
+    public record Route(String pattern, Double sampleRate, boolean captureBody) {
+    }
+}
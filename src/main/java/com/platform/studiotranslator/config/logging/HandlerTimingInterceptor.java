@@ -0,0 +1,47 @@
+package com.platform.studiotranslator.config.logging;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Records which controller method served the request, for whom, and how long it took, for the access log line
+ * (written after the security filters have already cleared the security context).
+ */
+@Component
+public class HandlerTimingInterceptor implements HandlerInterceptor {
+
+    public static final String HANDLER_ATTRIBUTE = HandlerTimingInterceptor.class.getName() + ".handler";
+    public static final String HANDLER_NANOS_ATTRIBUTE = HandlerTimingInterceptor.class.getName() + ".nanos";
+    public static final String USER_ATTRIBUTE = HandlerTimingInterceptor.class.getName() + ".user";
+
+    private static final String START_ATTRIBUTE = HandlerTimingInterceptor.class.getName() + ".start";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Called again on the async dispatch of an async handler: keep timing from the first dispatch
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        if (handler instanceof HandlerMethod method) {
+            request.setAttribute(HANDLER_ATTRIBUTE, method.getBeanType().getSimpleName() + "." + method.getMethod().getName());
+        }
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+            request.setAttribute(USER_ATTRIBUTE, auth.getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            request.setAttribute(HANDLER_NANOS_ATTRIBUTE, System.nanoTime() - start);
+        }
+    }
+}
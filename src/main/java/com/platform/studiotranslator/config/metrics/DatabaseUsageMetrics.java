@@ -0,0 +1,146 @@
+package com.platform.studiotranslator.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Locale;
+
+/**
+ * Counts JPA statements (Hibernate {@link StatementInspector}) and transactions ({@link TransactionExecutionListener})
+ * in total, and per request: the handler interceptor opens a per-thread tally and records it against the route,
+ * so N+1 queries or chatty endpoints show up as {@code http.server.requests.db.statements}.
+ * <p>
+ * Plain {@code JdbcTemplate} statements bypass Hibernate and are not counted; their transactions are. For async
+ * handlers only the work done on the request threads is counted, not what runs on other threads in between.
+ */
+@Component
+public class DatabaseUsageMetrics implements StatementInspector, TransactionExecutionListener, AsyncHandlerInterceptor {
+
+    private static final ThreadLocal<long[]> REQUEST_TALLY = new ThreadLocal<>();
+    private static final String TALLY_ATTRIBUTE = DatabaseUsageMetrics.class.getName() + ".tally";
+    private static final int STATEMENTS = 0;
+    private static final int TRANSACTIONS = 1;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter selects;
+    private final Counter inserts;
+    private final Counter updates;
+    private final Counter deletes;
+    private final Counter otherStatements;
+    private final Counter commits;
+    private final Counter rollbacks;
+
+    public DatabaseUsageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.selects = statementCounter("select");
+        this.inserts = statementCounter("insert");
+        this.updates = statementCounter("update");
+        this.deletes = statementCounter("delete");
+        this.otherStatements = statementCounter("other");
+        this.commits = transactionCounter("commit");
+        this.rollbacks = transactionCounter("rollback");
+    }
+
+    // --- Hibernate ---
+
+    @Override
+    public String inspect(String sql) {
+        classify(sql).increment();
+        count(STATEMENTS);
+        return sql;
+    }
+
+    // --- Spring transactions ---
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        (commitFailure == null ? commits : rollbacks).increment();
+        count(TRANSACTIONS);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        rollbacks.increment();
+        count(TRANSACTIONS);
+    }
+
+    // --- Per request ---
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The async dispatch of a request picks up the tally of its first dispatch
+        REQUEST_TALLY.set(request.getAttribute(TALLY_ATTRIBUTE) instanceof long[] tally ? tally : new long[2]);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long[] tally = REQUEST_TALLY.get();
+        REQUEST_TALLY.remove();
+        if (tally != null) request.setAttribute(TALLY_ATTRIBUTE, tally);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        long[] tally = REQUEST_TALLY.get();
+        if (tally == null) return;
+        REQUEST_TALLY.remove();
+
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = route != null ? route.toString() : "UNKNOWN";
+        requestSummary("http.server.requests.db.statements", "JPA statements executed per request", uri, request)
+                .record(tally[STATEMENTS]);
+        requestSummary("http.server.requests.db.transactions", "Transactions completed per request", uri, request)
+                .record(tally[TRANSACTIONS]);
+    }
+
+    private DistributionSummary requestSummary(String name, String description, String uri, HttpServletRequest request) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static void count(int index) {
+        long[] tally = REQUEST_TALLY.get();
+        if (tally != null) tally[index]++;
+    }
+
+    private Counter classify(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) end++;
+        return switch (trimmed.substring(0, end).toLowerCase(Locale.ROOT)) {
+            case "select", "with" -> selects;
+            case "insert" -> inserts;
+            case "update" -> updates;
+            case "delete" -> deletes;
+            default -> otherStatements;
+        };
+    }
+
+    private Counter statementCounter(String type) {
+        return Counter.builder("jpa.statements")
+                .description("SQL statements prepared by Hibernate")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private Counter transactionCounter(String outcome) {
+        return Counter.builder("jpa.transactions")
+                .description("Completed Spring-managed transactions")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
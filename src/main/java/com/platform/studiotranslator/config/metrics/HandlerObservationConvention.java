@@ -0,0 +1,25 @@
+package com.platform.studiotranslator.config.metrics;
+
+import com.platform.studiotranslator.config.logging.HandlerTimingInterceptor;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the controller method ({@code handler=ChapterController.read}) to the {@code http.server.requests} timers,
+ * next to the default method / uri / status / outcome / exception tags.
+ */
+@Component
+public class HandlerObservationConvention extends DefaultServerRequestObservationConvention {
+
+    private static final String NONE = "none";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerTimingInterceptor.HANDLER_ATTRIBUTE);
+        return super.getLowCardinalityKeyValues(context)
+                .and(KeyValue.of("handler", handler != null ? handler.toString() : NONE));
+    }
+}
@@ -0,0 +1,47 @@
+package com.platform.studiotranslator.config.resolver;
+
+import com.platform.studiotranslator.entity.UserEntity;
+import com.platform.studiotranslator.service.auth.AuthenticatedUser;
+import com.platform.studiotranslator.service.cache.UserCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@code @AuthenticationPrincipal UserEntity} from the {@link AuthenticatedUser} principal through the
+ * {@link UserCache}, so only the handlers that ask for the entity pay for loading it. Anonymous callers get
+ * {@code null}, as before.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserCache userCache;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(AuthenticationPrincipal.class)
+                && parameter.getParameterType().equals(UserEntity.class);
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof AuthenticatedUser principal) {
+            return userCache.get(principal);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,135 @@
+package com.platform.studiotranslator.config.schema;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Postgres schema that Hibernate's schema update cannot express (extensions, generated columns, GIN and
+ * partial indexes), applied at startup by the services that rely on it. One policy for all of it:
+ * <ul>
+ *     <li>each object is looked up in the catalog first, so once it exists a restart runs no DDL and takes no locks</li>
+ *     <li>indexes are built {@code CONCURRENTLY}, so the first deploy does not block writes while they build;
+ *     an invalid index left by an interrupted build is dropped and built again</li>
+ *     <li>instances starting together take turns (advisory lock), so none sees another's index half-built</li>
+ *     <li>any failure aborts startup: the code depends on every one of these objects</li>
+ * </ul>
+ * Adding a column still takes an ACCESS EXCLUSIVE lock on the table (and a stored generated column rewrites it),
+ * but only on the deploy that introduces it.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class StartupSchema {
+
+    private static final long LOCK_KEY = 0x5354_5544_494F_0001L; // "STUDIO" + 1
+
+    private static final String EXTENSION_EXISTS = "SELECT 1 FROM pg_extension WHERE extname = ?";
+    private static final String COLUMN_EXISTS = """
+            SELECT 1 FROM information_schema.columns
+            WHERE table_schema = current_schema() AND table_name = ? AND column_name = ?
+            """;
+    private static final String INDEX_VALID = """
+            SELECT i.indisvalid FROM pg_index i
+            JOIN pg_class c ON c.oid = i.indexrelid
+            JOIN pg_namespace n ON n.oid = c.relnamespace
+            WHERE n.nspname = current_schema() AND c.relname = ?
+            """;
+
+    @FunctionalInterface
+    private interface Step {
+        void apply(Connection connection) throws SQLException;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void ensureExtension(String name) {
+        apply("extension " + name, connection -> {
+            if (exists(connection, EXTENSION_EXISTS, name)) return;
+            log.info("Creating extension {}", name);
+            execute(connection, "CREATE EXTENSION IF NOT EXISTS " + name);
+        });
+    }
+
+    /**
+     * @param definition everything after the column name, e.g. {@code tsvector GENERATED ALWAYS AS (...) STORED}
+     */
+    public void ensureColumn(String table, String column, String definition) {
+        apply("column " + table + "." + column, connection -> {
+            if (exists(connection, COLUMN_EXISTS, table, column)) return;
+            log.info("Adding column {}.{}", table, column);
+            execute(connection, "ALTER TABLE " + table + " ADD COLUMN IF NOT EXISTS " + column + " " + definition);
+        });
+    }
+
+    /**
+     * @param definition everything after the index name, e.g. {@code ON projects USING GIN (search_vector)}
+     */
+    public void ensureIndex(String name, boolean unique, String definition) {
+        apply("index " + name, connection -> {
+            Boolean valid = indexValid(connection, name);
+            if (Boolean.TRUE.equals(valid)) return;
+            if (valid != null) {
+                log.warn("Index {} is invalid (an interrupted concurrent build), building it again", name);
+                execute(connection, "DROP INDEX CONCURRENTLY IF EXISTS " + name);
+            }
+            log.info("Creating index {}", name);
+            execute(connection, "CREATE " + (unique ? "UNIQUE " : "") + "INDEX CONCURRENTLY IF NOT EXISTS "
+                    + name + " " + definition);
+        });
+    }
+
+    // On one connection: advisory locks belong to the session, and CONCURRENTLY needs autocommit (no transaction)
+    private void apply(String object, Step step) {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                execute(connection, "SELECT pg_advisory_lock(" + LOCK_KEY + ")");
+                try {
+                    step.apply(connection);
+                } finally {
+                    execute(connection, "SELECT pg_advisory_unlock(" + LOCK_KEY + ")");
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("Could not set up " + object + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean exists(Connection connection, String sql, String... params) throws SQLException {
+        try (PreparedStatement statement = prepare(connection, sql, params); ResultSet rs = statement.executeQuery()) {
+            return rs.next();
+        }
+    }
+
+    private static Boolean indexValid(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = prepare(connection, INDEX_VALID, name); ResultSet rs = statement.executeQuery()) {
+            return rs.next() ? rs.getBoolean(1) : null;
+        }
+    }
+
+    private static PreparedStatement prepare(Connection connection, String sql, String... params) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        for (int i = 0; i < params.length; i++) {
+            statement.setString(i + 1, params[i]);
+        }
+        return statement;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
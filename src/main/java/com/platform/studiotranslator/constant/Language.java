@@ -5,32 +5,35 @@ import lombok.Getter;
 @Getter
 public enum Language {
 
-    EN("English", "Widely used international language"),
-    ES("Español", "Primary language of Spain and Latin America"),
-    ZH("中文", "Chinese Mandarin, most spoken native language"),
-    HI("हिन्दी", "Primary language of India"),
-    AR("العربية", "Arabic, widely spoken in the Middle East & North Africa"),
-    BN("বাংলা", "Bengali, spoken in Bangladesh & parts of India"),
-    PT("Português", "Portuguese, spoken in Portugal & Brazil"),
-    RU("Русский", "Russian, widely spoken across CIS countries"),
-    JA("日本語", "Japanese, spoken in Japan"),
-    PA("ਪੰਜਾਬੀ", "Punjabi, spoken in India & Pakistan"),
-    DE("Deutsch", "German, spoken in Germany, Austria, Switzerland"),
-    FR("Français", "French, spoken in Europe, Africa, Canada"),
-    TR("Türkçe", "Turkish, spoken in Türkiye"),
-    KO("한국어", "Korean, spoken in South & North Korea"),
-    VI("Tiếng Việt", "Vietnamese, spoken in Vietnam"),
-    IT("Italiano", "Italian, spoken in Italy & Switzerland"),
-    FA("فارسی", "Persian/Farsi, spoken in Iran & Afghanistan"),
-    UZ("Oʻzbek", "Uzbek, official language of Uzbekistan"),
-    PL("Polski", "Polish, spoken in Poland"),
-    UK("Українська", "Ukrainian, spoken in Ukraine");
+    EN("English", "Widely used international language", "english"),
+    ES("Español", "Primary language of Spain and Latin America", "spanish"),
+    ZH("中文", "Chinese Mandarin, most spoken native language", "simple"),
+    HI("हिन्दी", "Primary language of India", "simple"),
+    AR("العربية", "Arabic, widely spoken in the Middle East & North Africa", "arabic"),
+    BN("বাংলা", "Bengali, spoken in Bangladesh & parts of India", "simple"),
+    PT("Português", "Portuguese, spoken in Portugal & Brazil", "portuguese"),
+    RU("Русский", "Russian, widely spoken across CIS countries", "russian"),
+    JA("日本語", "Japanese, spoken in Japan", "simple"),
+    PA("ਪੰਜਾਬੀ", "Punjabi, spoken in India & Pakistan", "simple"),
+    DE("Deutsch", "German, spoken in Germany, Austria, Switzerland", "german"),
+    FR("Français", "French, spoken in Europe, Africa, Canada", "french"),
+    TR("Türkçe", "Turkish, spoken in Türkiye", "turkish"),
+    KO("한국어", "Korean, spoken in South & North Korea", "simple"),
+    VI("Tiếng Việt", "Vietnamese, spoken in Vietnam", "simple"),
+    IT("Italiano", "Italian, spoken in Italy & Switzerland", "italian"),
+    FA("فارسی", "Persian/Farsi, spoken in Iran & Afghanistan", "simple"),
+    UZ("Oʻzbek", "Uzbek, official language of Uzbekistan", "simple"),
+    PL("Polski", "Polish, spoken in Poland", "simple"),
+    UK("Українська", "Ukrainian, spoken in Ukraine", "simple");
 
     private final String label;
     private final String description;
+    // Postgres text-search configuration (stemming, stop words); "simple" where Postgres has no stemmer
+    private final String textSearchConfig;
 
-    Language(String label, String description) {
+    Language(String label, String description, String textSearchConfig) {
         this.label = label;
         this.description = description;
+        this.textSearchConfig = textSearchConfig;
     }
 }
@@ -0,0 +1,7 @@
+package com.platform.studiotranslator.constant;
+
+public enum SuggestionType {
+    PROJECT,    // Project title; the suggestion carries the slug
+    AUTHOR,     // Original author, shared by all their projects
+    TRANSLATOR  // Translator display name; the suggestion carries the translator id
+}
@@ -0,0 +1,8 @@
+package com.platform.studiotranslator.constant;
+
+public enum SyncJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
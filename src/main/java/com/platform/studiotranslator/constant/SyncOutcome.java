@@ -0,0 +1,6 @@
+package com.platform.studiotranslator.constant;
+
+public enum SyncOutcome {
+    UPDATED,    // New content exported and published
+    UNCHANGED   // Doc not modified since the last sync: nothing was exported or written
+}
@@ -1,13 +1,20 @@
 package com.platform.studiotranslator.controller;
 
 import com.platform.studiotranslator.dto.chapter.ChapterResponse;
+import com.platform.studiotranslator.dto.chapter.ChapterTocResponse;
 import com.platform.studiotranslator.entity.UserEntity;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -18,14 +25,24 @@ import java.util.UUID;
 )
 @RequestMapping("/api/chapters")
 public interface ChapterPublicApi {
-    @GetMapping("/{id}")
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Read a specific chapter content")
-    ResponseEntity<ChapterResponse> read(@PathVariable UUID id);
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = ChapterResponse.class)))
+    ResponseEntity<byte[]> read(@PathVariable UUID id, WebRequest webRequest);
+
+    @GetMapping(value = "/{id}/content", produces = MediaType.TEXT_HTML_VALUE)
+    @Operation(summary = "Read the raw HTML of a chapter",
+            description = "Served straight from compressed storage when the client accepts gzip")
+    ResponseEntity<byte[]> readContent(@PathVariable UUID id, WebRequest webRequest);
 
     @GetMapping("/project/{slug}")
-    @Operation(summary = "Get Table of Contents for a project")
-    ResponseEntity<List<ChapterResponse>> getTableOfContents(
+    @Operation(summary = "Get Table of Contents for a project",
+            description = "Seek-paginated by chapter number: pass the last received chapterNumber as 'after'")
+    ResponseEntity<List<ChapterTocResponse>> getTableOfContents(
             @PathVariable String slug,
-            UserEntity user
+            UserEntity user,
+            @RequestParam(required = false) Double after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest
     );
 }
@@ -1,17 +1,25 @@
 package com.platform.studiotranslator.controller;
 
+import com.platform.studiotranslator.dto.chapter.BulkChapterRequest;
+import com.platform.studiotranslator.dto.chapter.ChapterDiffResponse;
 import com.platform.studiotranslator.dto.chapter.ChapterRequest;
 import com.platform.studiotranslator.dto.chapter.ChapterResponse;
+import com.platform.studiotranslator.dto.chapter.ChapterRevisionResponse;
+import com.platform.studiotranslator.dto.chapter.ProjectResyncResponse;
+import com.platform.studiotranslator.dto.chapter.SyncJobResponse;
 import com.platform.studiotranslator.dto.chapter.UpdateChapterStatusRequest;
 import com.platform.studiotranslator.entity.UserEntity;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
 
 @Tag(
@@ -26,9 +34,29 @@ public interface ChapterTranslatorApi {
     @Operation(summary = "Create a new chapter draft (Initialize Google Doc)")
     ResponseEntity<ChapterResponse> create(UserEntity user, ChapterRequest request);
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Create many chapter drafts at once (batched Google Doc creation)")
+    ResponseEntity<List<ChapterResponse>> createBulk(UserEntity user, BulkChapterRequest request);
+
     @PostMapping("/{id}/sync")
-    @Operation(summary = "Sync content from Google Doc and Publish")
-    ResponseEntity<ChapterResponse> syncAndPublish(@PathVariable UUID id, UserEntity user);
+    @Operation(summary = "Queue a sync from Google Doc and Publish (202 + job id)")
+    ResponseEntity<SyncJobResponse> syncAndPublish(@PathVariable UUID id, UserEntity user);
+
+    @GetMapping("/sync-jobs/{jobId}")
+    @Operation(summary = "Status of a queued sync job")
+    ResponseEntity<SyncJobResponse> getSyncJob(@PathVariable UUID jobId, UserEntity user);
+
+    @PostMapping("/project/{projectId}/resync")
+    @Operation(summary = "Re-sync every chapter of a project from Google Docs (202 + resync id)")
+    ResponseEntity<ProjectResyncResponse> resyncProject(@PathVariable UUID projectId, UserEntity user);
+
+    @GetMapping("/resyncs/{resyncId}")
+    @Operation(summary = "Progress of a project resync (done / failed / remaining)")
+    ResponseEntity<ProjectResyncResponse> getResyncProgress(@PathVariable UUID resyncId, UserEntity user);
+
+    @GetMapping(value = "/resyncs/{resyncId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Progress of a project resync as Server-Sent Events, one snapshot per second")
+    SseEmitter streamResyncProgress(@PathVariable UUID resyncId, UserEntity user);
 
     @PatchMapping("/{id}/status")
     @Operation(summary = "Update chapter status (e.g., Draft <-> Ready)")
@@ -38,4 +66,21 @@ public interface ChapterTranslatorApi {
             @AuthenticationPrincipal UserEntity user
     );
 
+    @GetMapping("/{id}/revisions")
+    @Operation(summary = "Published revisions of a chapter, newest first (without content)")
+    ResponseEntity<List<ChapterRevisionResponse>> getRevisions(@PathVariable UUID id, UserEntity user);
+
+    @GetMapping("/{id}/revisions/{revision}")
+    @Operation(summary = "A published revision of a chapter, with its content")
+    ResponseEntity<ChapterRevisionResponse> getRevision(@PathVariable UUID id, @PathVariable int revision, UserEntity user);
+
+    @GetMapping("/{id}/revisions/diff")
+    @Operation(summary = "Paragraph diff between two published revisions")
+    ResponseEntity<ChapterDiffResponse> diffRevisions(
+            @PathVariable UUID id,
+            @RequestParam int from,
+            @RequestParam int to,
+            UserEntity user
+    );
+
 }
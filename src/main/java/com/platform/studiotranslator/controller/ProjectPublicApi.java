@@ -1,7 +1,10 @@
 package com.platform.studiotranslator.controller;
 
+import com.platform.studiotranslator.constant.Language;
 import com.platform.studiotranslator.constant.ProjectStatus;
+import com.platform.studiotranslator.dto.project.AutocompleteSuggestion;
 import com.platform.studiotranslator.dto.project.ProjectResponse;
+import com.platform.studiotranslator.dto.project.ProjectSearchResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
@@ -11,7 +14,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.UUID;
 
 @Tag(
@@ -21,9 +26,27 @@ import java.util.UUID;
 @RequestMapping("/api/projects")
 public interface ProjectPublicApi {
 
+    @GetMapping("/search")
+    @Operation(summary = "Full-text search over title, original author and synopsis",
+            description = "Ranked by relevance, with highlighted snippets. Seek-paginated: pass 'nextCursor' as 'cursor'")
+    ResponseEntity<ProjectSearchResponse> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Language language,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    );
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Suggest project titles, authors and translators as the reader types",
+            description = "Prefix matches first, then typo-tolerant matches; at least 2 characters")
+    ResponseEntity<List<AutocompleteSuggestion>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") int limit
+    );
+
     @GetMapping("/{slug}")
     @Operation(summary = "Get project details by slug")
-    ResponseEntity<ProjectResponse> getBySlug(@PathVariable String slug);
+    ResponseEntity<ProjectResponse> getBySlug(@PathVariable String slug, WebRequest webRequest);
 
     @GetMapping
     @Operation(summary = "Browse all projects")
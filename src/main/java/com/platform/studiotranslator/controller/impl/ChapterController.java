@@ -3,19 +3,44 @@ package com.platform.studiotranslator.controller.impl;
 import com.platform.studiotranslator.constant.Role;
 import com.platform.studiotranslator.controller.ChapterPublicApi;
 import com.platform.studiotranslator.controller.ChapterTranslatorApi;
+import com.platform.studiotranslator.dto.chapter.BulkChapterRequest;
+import com.platform.studiotranslator.dto.chapter.ChapterDiffResponse;
 import com.platform.studiotranslator.dto.chapter.ChapterRequest;
 import com.platform.studiotranslator.dto.chapter.ChapterResponse;
+import com.platform.studiotranslator.dto.chapter.ChapterRevisionResponse;
+import com.platform.studiotranslator.dto.chapter.ChapterTocResponse;
+import com.platform.studiotranslator.dto.chapter.ProjectResyncResponse;
+import com.platform.studiotranslator.dto.chapter.SyncJobResponse;
 import com.platform.studiotranslator.dto.chapter.UpdateChapterStatusRequest;
 import com.platform.studiotranslator.entity.UserEntity;
+import com.platform.studiotranslator.projection.ChapterContentView;
+import com.platform.studiotranslator.projection.ChapterTocStats;
+import com.platform.studiotranslator.service.ChapterBulkService;
 import com.platform.studiotranslator.service.ChapterService;
+import com.platform.studiotranslator.service.cache.ChapterPayload;
+import com.platform.studiotranslator.service.content.ChapterContentStorage;
+import com.platform.studiotranslator.service.revision.ChapterRevisionService;
+import com.platform.studiotranslator.service.sync.ChapterSyncJobService;
+import com.platform.studiotranslator.service.sync.ProjectResyncService;
+import com.platform.studiotranslator.util.HttpCacheUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,6 +50,20 @@ import java.util.UUID;
 public class ChapterController implements ChapterPublicApi, ChapterTranslatorApi {
 
     private final ChapterService chapterService;
+    private final ChapterBulkService chapterBulkService;
+    private final ChapterContentStorage contentStorage;
+    private final ChapterSyncJobService syncJobService;
+    private final ProjectResyncService projectResyncService;
+    private final ChapterRevisionService revisionService;
+
+    // Published chapters only change on re-sync, so let browsers and CDNs keep them briefly and revalidate via ETag
+    private static final CacheControl CHAPTER_CACHE = CacheControl.maxAge(Duration.ofMinutes(1))
+            .sMaxAge(Duration.ofMinutes(5))
+            .cachePublic();
+    private static final CacheControl TOC_CACHE = CacheControl.maxAge(Duration.ofSeconds(30))
+            .sMaxAge(Duration.ofMinutes(1))
+            .cachePublic();
+    private static final CacheControl TOC_DRAFTS_CACHE = CacheControl.noCache().cachePrivate();
 
     // --- TRANSLATOR API IMPLEMENTATION ---
 
@@ -39,14 +78,67 @@ public class ChapterController implements ChapterPublicApi, ChapterTranslatorApi
 
     @Override
     @PreAuthorize("hasAnyRole('TRANSLATOR', 'ADMIN')")
-    public ResponseEntity<ChapterResponse> syncAndPublish(
+    public ResponseEntity<List<ChapterResponse>> createBulk(
+            @AuthenticationPrincipal UserEntity user,
+            @RequestBody @Valid BulkChapterRequest request
+    ) {
+        return ResponseEntity.ok(chapterBulkService.createChapters(user, request));
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('TRANSLATOR', 'ADMIN')")
+    public ResponseEntity<SyncJobResponse> syncAndPublish(
             @PathVariable UUID id,
             @AuthenticationPrincipal UserEntity user
     ) {
-        // 1. Fetch content from Google Doc API
-        // 2. Convert to HTML/Text
-        // 3. Save to DB and mark as PUBLISHED
-        return ResponseEntity.ok(chapterService.syncAndPublish(id, user));
+        // The Drive export runs on a sync worker; poll the Location for the outcome
+        SyncJobResponse job = syncJobService.enqueue(id, user);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/chapters/sync-jobs/" + job.jobId()))
+                .body(job);
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('TRANSLATOR', 'ADMIN')")
+    public ResponseEntity<SyncJobResponse> getSyncJob(
+            @PathVariable UUID jobId,
+            @AuthenticationPrincipal UserEntity user
+    ) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(syncJobService.getJob(jobId, user));
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('TRANSLATOR', 'ADMIN')")
+    public ResponseEntity<ProjectResyncResponse> resyncProject(
+            @PathVariable UUID projectId,
+            @AuthenticationPrincipal UserEntity user
+    ) {
+        ProjectResyncResponse resync = projectResyncService.start(projectId, user);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/chapters/resyncs/" + resync.resyncId()))
+                .body(resync);
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('TRANSLATOR', 'ADMIN')")
+    public ResponseEntity<ProjectResyncResponse> getResyncProgress(
+            @PathVariable UUID resyncId,
+            @AuthenticationPrincipal UserEntity user
+    ) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(projectResyncService.getProgress(resyncId, user));
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('TRANSLATOR', 'ADMIN')")
+    public SseEmitter streamResyncProgress(
+            @PathVariable UUID resyncId,
+            @AuthenticationPrincipal UserEntity user
+    ) {
+        return projectResyncService.subscribe(resyncId, user);
     }
 
     @Override
@@ -54,17 +146,113 @@ public class ChapterController implements ChapterPublicApi, ChapterTranslatorApi
         return ResponseEntity.ok(chapterService.updateChapterStatus(id, request.status(), user));
     }
 
+    @Override
+    @PreAuthorize("hasAnyRole('TRANSLATOR', 'ADMIN')")
+    public ResponseEntity<List<ChapterRevisionResponse>> getRevisions(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal UserEntity user
+    ) {
+        return ResponseEntity.ok(revisionService.getHistory(id, user));
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('TRANSLATOR', 'ADMIN')")
+    public ResponseEntity<ChapterRevisionResponse> getRevision(
+            @PathVariable UUID id,
+            @PathVariable int revision,
+            @AuthenticationPrincipal UserEntity user
+    ) {
+        return ResponseEntity.ok(revisionService.getRevision(id, revision, user));
+    }
+
+    @Override
+    @PreAuthorize("hasAnyRole('TRANSLATOR', 'ADMIN')")
+    public ResponseEntity<ChapterDiffResponse> diffRevisions(
+            @PathVariable UUID id,
+            @RequestParam int from,
+            @RequestParam int to,
+            @AuthenticationPrincipal UserEntity user
+    ) {
+        return ResponseEntity.ok(revisionService.diff(id, from, to, user));
+    }
+
     // --- PUBLIC API IMPLEMENTATION ---
 
     @Override
-    public ResponseEntity<ChapterResponse> read(@PathVariable UUID id) {
-        return ResponseEntity.ok(chapterService.readChapter(id));
+    public ResponseEntity<byte[]> read(@PathVariable UUID id, WebRequest webRequest) {
+        // Cheap validator lookup first: answer 304 without loading the content
+        var version = chapterService.findPublishedChapterVersion(id);
+        if (version.isEmpty()) {
+            // Not found / not published: the regular read path raises the usual error
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(chapterService.readChapterPayload(id, null).json());
+        }
+
+        // gzip and identity are different representations, so they get different strong ETags
+        boolean gzip = HttpCacheUtils.acceptsEncoding(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING), "gzip");
+        String etag = HttpCacheUtils.etag(id, version.get().getVersion(), gzip ? "gzip" : "identity");
+        Instant lastModified = version.get().getUpdatedAt();
+
+        // Also writes the ETag / Last-Modified headers on the response
+        if (webRequest.checkNotModified(etag, lastModified.toEpochMilli())) {
+            chapterService.recordView(id);
+            return notModified(CHAPTER_CACHE);
+        }
+
+        ChapterPayload payload = chapterService.readChapterPayload(id, version.get().getVersion());
+
+        var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CHAPTER_CACHE)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        return gzip
+                ? response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip())
+                : response.body(payload.json());
+    }
+
+    @Override
+    public ResponseEntity<byte[]> readContent(@PathVariable UUID id, WebRequest webRequest) {
+        boolean gzip = HttpCacheUtils.acceptsEncoding(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING), "gzip");
+
+        var version = chapterService.findPublishedChapterVersion(id);
+        if (version.isPresent()) {
+            String etag = HttpCacheUtils.etag(id, version.get().getVersion(), "html", gzip ? "gzip" : "identity");
+            if (webRequest.checkNotModified(etag, version.get().getUpdatedAt().toEpochMilli())) {
+                chapterService.recordView(id);
+                return notModified(CHAPTER_CACHE);
+            }
+        }
+
+        ChapterContentView content = chapterService.readChapterContent(id);
+
+        var response = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .cacheControl(CHAPTER_CACHE)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            // Compressed storage: the stored bytes go out as-is, no decompression on the server
+            byte[] compressed = contentStorage.readGzip(content);
+            if (compressed != null) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(compressed);
+            }
+            // No content at all: an empty identity body, as below (an empty body is not valid gzip)
+            return response.body(new byte[0]);
+        }
+
+        String html = contentStorage.read(content);
+        return response.body(html != null ? html.getBytes(StandardCharsets.UTF_8) : new byte[0]);
     }
 
     @Override
-    public ResponseEntity<List<ChapterResponse>> getTableOfContents(
+    public ResponseEntity<List<ChapterTocResponse>> getTableOfContents(
             @PathVariable String slug,
-            @AuthenticationPrincipal UserEntity user
+            @AuthenticationPrincipal UserEntity user,
+            @RequestParam(required = false) Double after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest
     ) {
         // Default: Guest mode
         boolean canSeeDrafts = false;
@@ -78,6 +266,34 @@ public class ChapterController implements ChapterPublicApi, ChapterTranslatorApi
             }
         }
 
-        return ResponseEntity.ok(chapterService.getChaptersByProjectSlug(slug, canSeeDrafts));
+        // Drafts are per-user, so never let a shared cache store the translator view
+        CacheControl cacheControl = canSeeDrafts ? TOC_DRAFTS_CACHE : TOC_CACHE;
+
+        ChapterTocStats stats = chapterService.getTableOfContentsStats(slug, canSeeDrafts);
+        if (stats.getCount() == 0) {
+            return ResponseEntity.ok()
+                    .cacheControl(cacheControl)
+                    .body(chapterService.getChaptersByProjectSlug(slug, canSeeDrafts, after, limit));
+        }
+
+        String etag = HttpCacheUtils.etag(slug, canSeeDrafts, after, limit,
+                stats.getCount(), stats.getVersionSum(), stats.getLastUpdatedAt());
+        long lastModified = stats.getLastUpdatedAt().toEpochMilli();
+
+        // Also writes the ETag / Last-Modified headers on the response
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return notModified(cacheControl);
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(chapterService.getChaptersByProjectSlug(slug, canSeeDrafts, after, limit));
+    }
+
+    private static <T> ResponseEntity<T> notModified(CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(cacheControl)
+                .build();
     }
 }
@@ -1,12 +1,17 @@
 package com.platform.studiotranslator.controller.impl;
 
+import com.platform.studiotranslator.constant.Language;
 import com.platform.studiotranslator.constant.ProjectStatus;
 import com.platform.studiotranslator.controller.ProjectPublicApi;
 import com.platform.studiotranslator.controller.ProjectTranslatorApi;
 import com.platform.studiotranslator.dto.project.ProjectRequest;
+import com.platform.studiotranslator.dto.project.AutocompleteSuggestion;
 import com.platform.studiotranslator.dto.project.ProjectResponse;
+import com.platform.studiotranslator.dto.project.ProjectSearchResponse;
 import com.platform.studiotranslator.entity.UserEntity;
 import com.platform.studiotranslator.service.ProjectService;
+import com.platform.studiotranslator.service.search.AutocompleteService;
+import com.platform.studiotranslator.util.HttpCacheUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,12 +19,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @Validated
@@ -28,6 +39,14 @@ import java.util.UUID;
 public class ProjectController implements ProjectPublicApi, ProjectTranslatorApi {
 
     private final ProjectService projectService;
+    private final AutocompleteService autocompleteService;
+
+    private static final CacheControl PROJECT_CACHE = CacheControl.maxAge(Duration.ofMinutes(1))
+            .sMaxAge(Duration.ofMinutes(2))
+            .cachePublic();
+
+    private static final CacheControl AUTOCOMPLETE_CACHE = CacheControl.maxAge(Duration.ofMinutes(1))
+            .cachePublic();
 
 
     // --- TRANSLATOR API IMPLEMENTATION ---
@@ -78,8 +97,45 @@ public class ProjectController implements ProjectPublicApi, ProjectTranslatorApi
     // --- PUBLIC API IMPLEMENTATION ---
 
     @Override
-    public ResponseEntity<ProjectResponse> getBySlug(@PathVariable String slug) {
-        return ResponseEntity.ok(projectService.getProjectBySlug(slug));
+    public ResponseEntity<ProjectResponse> getBySlug(@PathVariable String slug, WebRequest webRequest) {
+        var version = projectService.findProjectVersion(slug);
+        if (version.isEmpty()) {
+            return ResponseEntity.ok(projectService.getProjectBySlug(slug)); // Throws "Project not found"
+        }
+
+        String etag = HttpCacheUtils.etag(version.get().getId(), version.get().getVersion());
+        Instant lastModified = version.get().getUpdatedAt();
+
+        // Also writes the ETag / Last-Modified headers on the response
+        if (webRequest.checkNotModified(etag, lastModified.toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(PROJECT_CACHE)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(PROJECT_CACHE)
+                .body(projectService.getProjectBySlug(slug));
+    }
+
+    @Override
+    public ResponseEntity<ProjectSearchResponse> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Language language,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(projectService.searchProjects(q, language, cursor, limit));
+    }
+
+    @Override
+    public ResponseEntity<List<AutocompleteSuggestion>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") int limit
+    ) {
+        return ResponseEntity.ok()
+                .cacheControl(AUTOCOMPLETE_CACHE)
+                .body(autocompleteService.suggest(q, limit));
     }
 
     @Override
@@ -0,0 +1,30 @@
+package com.platform.studiotranslator.dto.chapter;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkChapterRequest(
+        @NotNull(message = "Project ID is required")
+        UUID projectId,
+
+        @NotEmpty(message = "At least one chapter is required")
+        @Size(max = 500, message = "At most 500 chapters per request")
+        List<@Valid Item> chapters
+) {
+    public record Item(
+            @NotNull(message = "Chapter number is required")
+            @DecimalMin(value = "0.0", message = "Chapter number cannot be negative")
+            Double chapterNumber,
+
+            @NotBlank(message = "Title is required")
+            String title
+    ) {
+    }
+}
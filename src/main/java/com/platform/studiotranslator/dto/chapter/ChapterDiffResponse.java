@@ -0,0 +1,22 @@
+package com.platform.studiotranslator.dto.chapter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Paragraph-level difference between two revisions, in document order.
+ */
+public record ChapterDiffResponse(
+        UUID chapterId,
+        int fromRevision,
+        int toRevision,
+        int paragraphsAdded,
+        int paragraphsRemoved,
+        List<Hunk> hunks
+) {
+    public enum HunkType { UNCHANGED, REMOVED, ADDED }
+
+    // UNCHANGED hunks only carry the paragraph count; REMOVED/ADDED carry the paragraphs' HTML
+    public record Hunk(HunkType type, int paragraphs, List<String> lines) {
+    }
+}
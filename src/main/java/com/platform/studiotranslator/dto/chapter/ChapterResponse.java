@@ -11,7 +11,7 @@ public record ChapterResponse(
         String title,
         String content,     // Null if DRAFT (reader can't see)
         Integer wordCount,
-        Long viewCount,
+        Long viewCount,     // Null in the public read, which is cached per version; the TOC has it
         Instant updatedAt,
         ChapterStatus status,
         String googleDocUrl, // Only visible to Translator/Admin
@@ -0,0 +1,12 @@
+package com.platform.studiotranslator.dto.chapter;
+
+import java.time.Instant;
+
+public record ChapterRevisionResponse(
+        int revision,
+        int wordCount,
+        String contentHash,
+        Instant publishedAt,
+        String content // Only set when a single revision is requested
+) {
+}
@@ -0,0 +1,19 @@
+package com.platform.studiotranslator.dto.chapter;
+
+import com.platform.studiotranslator.constant.ChapterStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ChapterTocResponse(
+        UUID id,
+        Double chapterNumber,
+        String title,
+        ChapterStatus status,
+        Integer wordCount,
+        Long viewCount,
+        Instant updatedAt,
+        String googleDocUrl, // Only visible to Translator/Admin
+        Instant lastSyncedAt
+) {
+}
@@ -0,0 +1,24 @@
+package com.platform.studiotranslator.dto.chapter;
+
+import com.platform.studiotranslator.constant.SyncJobStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record ProjectResyncResponse(
+        UUID resyncId,
+        UUID projectId,
+        SyncJobStatus status,
+        int total,
+        int updated,
+        int unchanged,
+        int failed,
+        int remaining,
+        List<Failure> failures, // First few failures, for display
+        Instant startedAt,
+        Instant finishedAt
+) {
+    public record Failure(UUID chapterId, String error) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.platform.studiotranslator.dto.chapter;
+
+import com.platform.studiotranslator.constant.SyncJobStatus;
+import com.platform.studiotranslator.constant.SyncOutcome;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record SyncJobResponse(
+        UUID jobId,
+        UUID chapterId,
+        SyncJobStatus status,
+        SyncOutcome outcome, // UPDATED / UNCHANGED once SUCCEEDED
+        String error,        // Only set when FAILED
+        Instant enqueuedAt,
+        Instant startedAt,
+        Instant finishedAt
+) {
+}
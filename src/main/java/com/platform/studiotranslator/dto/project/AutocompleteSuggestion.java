@@ -0,0 +1,13 @@
+package com.platform.studiotranslator.dto.project;
+
+import com.platform.studiotranslator.constant.SuggestionType;
+
+import java.util.UUID;
+
+public record AutocompleteSuggestion(
+        SuggestionType type,
+        String text,
+        String slug,         // PROJECT only
+        UUID translatorId    // TRANSLATOR only
+) {
+}
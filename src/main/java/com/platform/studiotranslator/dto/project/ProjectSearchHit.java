@@ -0,0 +1,12 @@
+package com.platform.studiotranslator.dto.project;
+
+/**
+ * {@code titleHighlight} and {@code snippet} are HTML-escaped text with matches wrapped in {@code <mark>}.
+ */
+public record ProjectSearchHit(
+        ProjectResponse project,
+        float rank,
+        String titleHighlight,
+        String snippet
+) {
+}
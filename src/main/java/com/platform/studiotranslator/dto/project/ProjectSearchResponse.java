@@ -0,0 +1,12 @@
+package com.platform.studiotranslator.dto.project;
+
+import java.util.List;
+
+/**
+ * One page of search results; pass {@code nextCursor} back as {@code cursor} for the next one (null on the last page).
+ */
+public record ProjectSearchResponse(
+        List<ProjectSearchHit> hits,
+        String nextCursor
+) {
+}
@@ -64,9 +64,26 @@ public class ChapterEntity extends AuditableEntity {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // Gzip-compressed content, used instead of 'content' when compressed storage is enabled.
+    // Stored as gzip (bytea) so it can be streamed to clients with Content-Encoding: gzip untouched.
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "content_gzip")
+    private byte[] contentGzip;
+
     @Column(name = "last_synced_at")
     private Instant lastSyncedAt;
 
+    // SHA-256 of the normalized HTML last published, so an identical re-export is not written again
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Drive's file version/modifiedTime at the last sync; an unchanged version skips the export entirely
+    @Column(name = "drive_version")
+    private Long driveVersion;
+
+    @Column(name = "drive_modified_at")
+    private Instant driveModifiedAt;
+
     // --- Status & Stats ---
 
     @Enumerated(EnumType.STRING)
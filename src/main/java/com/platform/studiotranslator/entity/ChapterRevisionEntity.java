@@ -0,0 +1,66 @@
+package com.platform.studiotranslator.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One published version of a chapter's content.
+ * <p>
+ * {@code data} is either a gzip snapshot of the full HTML ({@code snapshotRevision == revisionNumber}) or a gzip
+ * paragraph delta against the previous revision. {@code snapshotRevision} points at the snapshot the delta chain
+ * starts from, so a revision is rebuilt from one snapshot plus at most {@code snapshot-interval - 1} deltas.
+ * Revisions are immutable history: no soft delete or versioning.
+ */
+@Entity
+@Table(name = "chapter_revisions",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_chapter_revision_num", columnNames = {"chapter_id", "revision_number"})
+        }
+)
+@Getter @Setter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class ChapterRevisionEntity {
+    @Id
+    @UuidGenerator
+    @EqualsAndHashCode.Include
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "chapter_id", nullable = false, updatable = false)
+    private UUID chapterId;
+
+    @Column(name = "revision_number", nullable = false, updatable = false)
+    private Integer revisionNumber;
+
+    @Column(name = "snapshot_revision", nullable = false, updatable = false)
+    private Integer snapshotRevision;
+
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "data", nullable = false, updatable = false)
+    private byte[] data;
+
+    @Column(name = "stored_bytes", nullable = false, updatable = false)
+    private Integer storedBytes;
+
+    // SHA-256 of the full HTML, checked after every reconstruction
+    @Column(name = "content_hash", nullable = false, updatable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "word_count", nullable = false, updatable = false)
+    private Integer wordCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public boolean isSnapshot() {
+        return revisionNumber.equals(snapshotRevision);
+    }
+}
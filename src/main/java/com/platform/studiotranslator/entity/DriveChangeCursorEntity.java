@@ -0,0 +1,32 @@
+package com.platform.studiotranslator.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+
+/**
+ * Where a Drive {@code changes.list} feed was last read up to, so a restart resumes instead of re-scanning.
+ * <p>
+ * One row per feed, keyed by name. Bookkeeping rather than a domain entity: no soft delete or versioning.
+ */
+@Entity
+@Table(name = "drive_change_cursors")
+@Getter @Setter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class DriveChangeCursorEntity {
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "name", updatable = false, nullable = false, length = 64)
+    private String name;
+
+    @Column(name = "page_token", nullable = false)
+    private String pageToken;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,54 @@
+package com.platform.studiotranslator.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A blank Google Doc created ahead of time, waiting to become a chapter.
+ * <p>
+ * Rows are short-lived queue entries: claiming a doc marks the row ({@code FOR UPDATE SKIP LOCKED}) with the
+ * rename/share still owed to the translator, and the row is hard-deleted once that is done. So unlike the domain
+ * entities there is no soft delete or versioning here.
+ */
+@Entity
+@Table(name = "google_doc_pool",
+        indexes = {
+                @Index(name = "idx_doc_pool_created", columnList = "created_at")
+        }
+)
+@Getter @Setter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class PooledDocumentEntity {
+    @Id
+    @UuidGenerator
+    @EqualsAndHashCode.Include
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "google_doc_id", nullable = false, unique = true, updatable = false)
+    private String googleDocId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    // Set once claimed by a chapter: the doc still has to be renamed to the title and shared with the email
+    @Column(name = "claimed_at")
+    private Instant claimedAt;
+
+    @Column(name = "finish_title")
+    private String finishTitle;
+
+    @Column(name = "finish_email")
+    private String finishEmail;
+
+    @Column(name = "finish_attempts")
+    private Integer finishAttempts;
+}
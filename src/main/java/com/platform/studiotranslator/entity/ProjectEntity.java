@@ -4,6 +4,7 @@ import com.platform.studiotranslator.constant.Language;
 import com.platform.studiotranslator.constant.ProjectGenre;
 import com.platform.studiotranslator.constant.ProjectStatus;
 import com.platform.studiotranslator.constant.ProjectType;
+import com.platform.studiotranslator.service.search.AutocompleteIndexUpdater;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
@@ -26,6 +27,7 @@ import java.util.UUID;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 @SQLDelete(sql = "UPDATE projects SET deleted_at = NOW(), version = version + 1 WHERE id = ? AND version = ?")
 @SQLRestriction("deleted_at IS NULL")
+@EntityListeners(AutocompleteIndexUpdater.class)
 public class ProjectEntity extends AuditableEntity {
 
     @Id
@@ -0,0 +1,37 @@
+package com.platform.studiotranslator.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A revoked access or refresh token, by its {@code jti}. Rows are only needed until the token would have expired
+ * anyway, and are purged after that.
+ * <p>
+ * Bookkeeping rather than a domain entity: no soft delete or versioning.
+ */
+@Entity
+@Table(name = "revoked_tokens",
+        indexes = @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at")
+)
+@Getter @Setter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class RevokedTokenEntity {
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "jti", updatable = false, nullable = false)
+    private UUID jti;
+
+    @Column(name = "subject", updatable = false, nullable = false)
+    private String subject;
+
+    @Column(name = "expires_at", updatable = false, nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", updatable = false, nullable = false)
+    private Instant revokedAt;
+}
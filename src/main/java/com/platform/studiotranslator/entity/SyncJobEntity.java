@@ -0,0 +1,63 @@
+package com.platform.studiotranslator.entity;
+
+import com.platform.studiotranslator.constant.SyncJobStatus;
+import com.platform.studiotranslator.constant.SyncOutcome;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "sync_jobs",
+        indexes = {
+                @Index(name = "idx_sync_job_chapter", columnList = "chapter_id"),
+                @Index(name = "idx_sync_job_status", columnList = "status")
+        }
+)
+@Getter @Setter @Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+@SQLDelete(sql = "UPDATE sync_jobs SET deleted_at = NOW(), version = version + 1 WHERE id = ? AND version = ?")
+@SQLRestriction("deleted_at IS NULL")
+public class SyncJobEntity extends AuditableEntity {
+    @Id
+    @UuidGenerator
+    @EqualsAndHashCode.Include
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    // Plain ids rather than associations: workers run outside any session and only need the keys
+    @Column(name = "chapter_id", nullable = false, updatable = false)
+    private UUID chapterId;
+
+    @Column(name = "requested_by_id", nullable = false, updatable = false)
+    private UUID requestedById;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private SyncJobStatus status = SyncJobStatus.QUEUED;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    // While RUNNING: until when the instance that claimed the job owns it; past this, another instance may take over
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
+
+    // Set once SUCCEEDED: whether the doc actually changed
+    @Enumerated(EnumType.STRING)
+    @Column
+    private SyncOutcome outcome;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+}
@@ -1,6 +1,7 @@
 package com.platform.studiotranslator.entity;
 
 import com.platform.studiotranslator.constant.TranslatorBadge;
+import com.platform.studiotranslator.service.search.AutocompleteIndexUpdater;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
@@ -18,6 +19,7 @@ import java.util.UUID;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 @SQLDelete(sql = "UPDATE translators SET deleted_at = NOW(), version = version + 1 WHERE user_id = ? AND version = ?")
 @SQLRestriction("deleted_at IS NULL")
+@EntityListeners(AutocompleteIndexUpdater.class)
 public class TranslatorEntity extends AuditableEntity {
     @Id
     @Column(name = "user_id",  nullable = false)
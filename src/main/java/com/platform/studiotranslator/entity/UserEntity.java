@@ -2,6 +2,8 @@ package com.platform.studiotranslator.entity;
 
 import com.platform.studiotranslator.constant.AuthProvider;
 import com.platform.studiotranslator.constant.Role;
+import com.platform.studiotranslator.service.cache.UserCacheInvalidator;
+import com.platform.studiotranslator.service.search.AutocompleteIndexUpdater;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
@@ -22,6 +24,7 @@ import java.util.*;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 @SQLDelete(sql = "UPDATE users SET deleted_at = NOW(), version = version + 1 WHERE id = ? AND version = ?")
 @SQLRestriction("deleted_at IS NULL")
+@EntityListeners({UserCacheInvalidator.class, AutocompleteIndexUpdater.class})
 public class UserEntity extends AuditableEntity implements UserDetails {
     @Id
     @UuidGenerator
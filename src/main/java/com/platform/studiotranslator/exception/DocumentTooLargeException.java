@@ -0,0 +1,10 @@
+package com.platform.studiotranslator.exception;
+
+/**
+ * A Google Doc export is bigger than {@code application.chapter.sync.max-export-bytes}; the download is aborted.
+ */
+public class DocumentTooLargeException extends RuntimeException {
+    public DocumentTooLargeException(String message) {
+        super(message);
+    }
+}
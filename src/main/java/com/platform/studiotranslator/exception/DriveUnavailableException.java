@@ -0,0 +1,19 @@
+package com.platform.studiotranslator.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Google Drive is being shielded (circuit open, bulkhead full or rate limit wait exceeded): fail fast instead of queueing.
+ */
+@Getter
+public class DriveUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public DriveUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -2,6 +2,7 @@ package com.platform.studiotranslator.exception;
 
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail; // Spring Boot 3 Feature
 import org.springframework.http.ResponseEntity;
@@ -60,6 +61,15 @@ public class GlobalExceptionHandler {
         return pd;
     }
 
+    @ExceptionHandler(RevokedTokenException.class)
+    public ProblemDetail handleRevokedToken(RevokedTokenException ex) {
+        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.UNAUTHORIZED);
+        pd.setTitle("Token Revoked");
+        pd.setDetail(ex.getMessage());
+        pd.setProperty("errorCode", "JWT_REVOKED");
+        return pd;
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ProblemDetail handleBadCredentials(BadCredentialsException ex) {
         ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.UNAUTHORIZED);
@@ -87,6 +97,26 @@ public class GlobalExceptionHandler {
         return pd;
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ProblemDetail handleTooManyRequests(TooManyRequestsException ex) {
+        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.TOO_MANY_REQUESTS);
+        pd.setTitle("Too Many Requests");
+        pd.setDetail(ex.getMessage());
+        pd.setProperty("errorCode", "TOO_MANY_REQUESTS");
+        return pd;
+    }
+
+    @ExceptionHandler(DriveUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleDriveUnavailable(DriveUnavailableException ex) {
+        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        pd.setTitle("Google Drive Unavailable");
+        pd.setDetail(ex.getMessage());
+        pd.setProperty("errorCode", "GOOGLE_DRIVE_UNAVAILABLE");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(pd);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ProblemDetail handleIllegalArgument(IllegalArgumentException ex) {
         ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
@@ -0,0 +1,7 @@
+package com.platform.studiotranslator.exception;
+
+public class RevokedTokenException extends RuntimeException {
+    public RevokedTokenException(String message) {
+        super(message);
+    }
+}
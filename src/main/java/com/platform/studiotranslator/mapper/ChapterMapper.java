@@ -2,11 +2,16 @@ package com.platform.studiotranslator.mapper;
 
 import com.platform.studiotranslator.dto.chapter.ChapterResponse;
 import com.platform.studiotranslator.entity.ChapterEntity;
+import com.platform.studiotranslator.service.content.ChapterContentStorage;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class ChapterMapper {
 
+    private final ChapterContentStorage contentStorage;
+
     public ChapterResponse toResponse(ChapterEntity entity) {
         if (entity == null) {
             return null;
@@ -16,7 +21,7 @@ public class ChapterMapper {
                 entity.getId(),
                 entity.getChapterNumber(),
                 entity.getTitle(),
-                entity.getContent(),
+                contentStorage.read(entity),
                 entity.getWordCount(),
                 entity.getViewCount(),
                 entity.getUpdatedAt(),
@@ -0,0 +1,7 @@
+package com.platform.studiotranslator.projection;
+
+// Raw stored content of a chapter: one of the two is set depending on the storage mode
+public interface ChapterContentView {
+    String getContent();
+    byte[] getContentGzip();
+}
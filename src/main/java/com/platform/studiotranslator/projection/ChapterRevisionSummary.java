@@ -0,0 +1,12 @@
+package com.platform.studiotranslator.projection;
+
+import java.time.Instant;
+
+// Revision history row, without the stored snapshot/delta bytes
+public interface ChapterRevisionSummary {
+    Integer getRevisionNumber();
+    Integer getWordCount();
+    String getContentHash();
+    Integer getStoredBytes();
+    Instant getCreatedAt();
+}
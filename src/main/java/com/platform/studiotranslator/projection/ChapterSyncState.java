@@ -0,0 +1,14 @@
+package com.platform.studiotranslator.projection;
+
+import com.platform.studiotranslator.constant.ChapterStatus;
+
+import java.util.UUID;
+
+// What a sync needs to decide whether the Google Doc changed since the last publish
+public interface ChapterSyncState {
+    UUID getId();
+    String getGoogleDocId();
+    ChapterStatus getStatus();
+    String getContentHash();
+    Long getDriveVersion();
+}
@@ -0,0 +1,10 @@
+package com.platform.studiotranslator.projection;
+
+import java.time.Instant;
+
+// Aggregate validator for a table of contents: changes whenever a chapter is added, removed or edited
+public interface ChapterTocStats {
+    Long getCount();
+    Long getVersionSum();
+    Instant getLastUpdatedAt();
+}
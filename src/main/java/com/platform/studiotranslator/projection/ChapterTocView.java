@@ -0,0 +1,19 @@
+package com.platform.studiotranslator.projection;
+
+import com.platform.studiotranslator.constant.ChapterStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Table-of-contents row. Deliberately has no content: never pulls the @Lob body.
+public interface ChapterTocView {
+    UUID getId();
+    Double getChapterNumber();
+    String getTitle();
+    ChapterStatus getStatus();
+    Integer getWordCount();
+    Long getViewCount();
+    Instant getUpdatedAt();
+    String getGoogleDocUrl();
+    Instant getLastSyncedAt();
+}
@@ -0,0 +1,11 @@
+package com.platform.studiotranslator.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Cheap validator lookup for conditional GETs (ETag / Last-Modified)
+public interface EntityVersionView {
+    UUID getId();
+    Long getVersion();
+    Instant getUpdatedAt();
+}
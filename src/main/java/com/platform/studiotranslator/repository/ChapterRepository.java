@@ -2,9 +2,20 @@ package com.platform.studiotranslator.repository;
 
 import com.platform.studiotranslator.constant.ChapterStatus;
 import com.platform.studiotranslator.entity.ChapterEntity;
+import com.platform.studiotranslator.projection.ChapterContentView;
+import com.platform.studiotranslator.projection.ChapterSyncState;
+import com.platform.studiotranslator.projection.ChapterTocStats;
+import com.platform.studiotranslator.projection.ChapterTocView;
+import com.platform.studiotranslator.projection.EntityVersionView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,9 +26,71 @@ public interface ChapterRepository extends JpaRepository<ChapterEntity, UUID> {
     // Find a specific chapter in a book
     Optional<ChapterEntity> findByProjectIdAndChapterNumber(UUID projectId, Double chapterNumber);
 
+    // Bulk create: which of these numbers are already taken, in one query
+    @Query("SELECT c.chapterNumber FROM ChapterEntity c WHERE c.project.id = :projectId AND c.chapterNumber IN :numbers")
+    List<Double> findExistingChapterNumbers(@Param("projectId") UUID projectId, @Param("numbers") Collection<Double> numbers);
+
     // Used during Sync to find the chapter associated with a Doc ID
     Optional<ChapterEntity> findByGoogleDocId(String googleDocId);
 
     List<ChapterEntity> findAllByProjectIdOrderByChapterNumberAsc(UUID projectId);
     List<ChapterEntity> findAllByProjectIdAndStatusOrderByChapterNumberAsc(UUID projectId, ChapterStatus status);
+
+    // TABLE OF CONTENTS: metadata only, seek-paginated by chapter number (served by uk_project_chapter_num)
+    @Query("""
+            SELECT c.id AS id, c.chapterNumber AS chapterNumber, c.title AS title, c.status AS status,
+                   c.wordCount AS wordCount, c.viewCount AS viewCount, c.updatedAt AS updatedAt,
+                   c.googleDocUrl AS googleDocUrl, c.lastSyncedAt AS lastSyncedAt
+            FROM ChapterEntity c
+            WHERE c.project.id = :projectId AND c.chapterNumber > :after
+            ORDER BY c.chapterNumber ASC
+            """)
+    List<ChapterTocView> findTocByProjectId(@Param("projectId") UUID projectId,
+                                            @Param("after") Double after,
+                                            Limit limit);
+
+    @Query("""
+            SELECT c.id AS id, c.chapterNumber AS chapterNumber, c.title AS title, c.status AS status,
+                   c.wordCount AS wordCount, c.viewCount AS viewCount, c.updatedAt AS updatedAt,
+                   c.googleDocUrl AS googleDocUrl, c.lastSyncedAt AS lastSyncedAt
+            FROM ChapterEntity c
+            WHERE c.project.id = :projectId AND c.status = :status AND c.chapterNumber > :after
+            ORDER BY c.chapterNumber ASC
+            """)
+    List<ChapterTocView> findTocByProjectIdAndStatus(@Param("projectId") UUID projectId,
+                                                     @Param("status") ChapterStatus status,
+                                                     @Param("after") Double after,
+                                                     Limit limit);
+
+    // CONDITIONAL GET: validators only, no content
+    @Query("SELECT c.id AS id, c.version AS version, c.updatedAt AS updatedAt FROM ChapterEntity c WHERE c.id = :id AND c.status = :status")
+    Optional<EntityVersionView> findVersionByIdAndStatus(@Param("id") UUID id, @Param("status") ChapterStatus status);
+
+    // RAW CONTENT: only the stored body (TEXT or gzip), for streaming without re-encoding
+    @Query("SELECT c.content AS content, c.contentGzip AS contentGzip FROM ChapterEntity c WHERE c.id = :id AND c.status = :status")
+    Optional<ChapterContentView> findContentByIdAndStatus(@Param("id") UUID id, @Param("status") ChapterStatus status);
+
+    @Query("SELECT c.id AS id, c.googleDocId AS googleDocId, c.status AS status, c.contentHash AS contentHash, c.driveVersion AS driveVersion FROM ChapterEntity c WHERE c.id = :id")
+    Optional<ChapterSyncState> findSyncStateById(@Param("id") UUID id);
+
+    @Query("SELECT c.id AS id, c.googleDocId AS googleDocId, c.status AS status, c.contentHash AS contentHash, c.driveVersion AS driveVersion FROM ChapterEntity c WHERE c.project.id = :projectId ORDER BY c.chapterNumber ASC")
+    List<ChapterSyncState> findSyncStatesByProjectId(@Param("projectId") UUID projectId);
+
+    // Change feed: which of these docs are chapters, in one query
+    @Query("SELECT c.id AS id, c.googleDocId AS googleDocId, c.status AS status, c.contentHash AS contentHash, c.driveVersion AS driveVersion FROM ChapterEntity c WHERE c.googleDocId IN :googleDocIds")
+    List<ChapterSyncState> findSyncStatesByGoogleDocIds(@Param("googleDocIds") Collection<String> googleDocIds);
+
+    // Records a new Drive version whose export turned out identical. Bulk JPQL update: no version bump, no content write.
+    @Modifying
+    @Query("UPDATE ChapterEntity c SET c.driveVersion = :driveVersion, c.driveModifiedAt = :driveModifiedAt, c.lastSyncedAt = :syncedAt WHERE c.id = :id")
+    int updateDriveRevision(@Param("id") UUID id,
+                            @Param("driveVersion") Long driveVersion,
+                            @Param("driveModifiedAt") Instant driveModifiedAt,
+                            @Param("syncedAt") Instant syncedAt);
+
+    @Query("SELECT COUNT(c) AS count, SUM(c.version) AS versionSum, MAX(c.updatedAt) AS lastUpdatedAt FROM ChapterEntity c WHERE c.project.slug = :slug")
+    ChapterTocStats findTocStatsByProjectSlug(@Param("slug") String slug);
+
+    @Query("SELECT COUNT(c) AS count, SUM(c.version) AS versionSum, MAX(c.updatedAt) AS lastUpdatedAt FROM ChapterEntity c WHERE c.project.slug = :slug AND c.status = :status")
+    ChapterTocStats findTocStatsByProjectSlugAndStatus(@Param("slug") String slug, @Param("status") ChapterStatus status);
 }
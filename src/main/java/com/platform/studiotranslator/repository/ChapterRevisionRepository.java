@@ -0,0 +1,32 @@
+package com.platform.studiotranslator.repository;
+
+import com.platform.studiotranslator.entity.ChapterRevisionEntity;
+import com.platform.studiotranslator.projection.ChapterRevisionSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ChapterRevisionRepository extends JpaRepository<ChapterRevisionEntity, UUID> {
+
+    Optional<ChapterRevisionEntity> findFirstByChapterIdOrderByRevisionNumberDesc(UUID chapterId);
+
+    Optional<ChapterRevisionEntity> findByChapterIdAndRevisionNumber(UUID chapterId, Integer revisionNumber);
+
+    // A snapshot and the deltas on top of it, in the order they are applied
+    List<ChapterRevisionEntity> findByChapterIdAndRevisionNumberBetweenOrderByRevisionNumberAsc(UUID chapterId, Integer from, Integer to);
+
+    @Query("""
+            SELECT r.revisionNumber AS revisionNumber, r.wordCount AS wordCount, r.contentHash AS contentHash,
+                   r.storedBytes AS storedBytes, r.createdAt AS createdAt
+            FROM ChapterRevisionEntity r
+            WHERE r.chapterId = :chapterId
+            ORDER BY r.revisionNumber DESC
+            """)
+    List<ChapterRevisionSummary> findSummariesByChapterId(@Param("chapterId") UUID chapterId);
+}
@@ -0,0 +1,9 @@
+package com.platform.studiotranslator.repository;
+
+import com.platform.studiotranslator.entity.DriveChangeCursorEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DriveChangeCursorRepository extends JpaRepository<DriveChangeCursorEntity, String> {
+}
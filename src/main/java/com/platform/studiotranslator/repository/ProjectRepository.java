@@ -2,11 +2,18 @@ package com.platform.studiotranslator.repository;
 
 import com.platform.studiotranslator.constant.ProjectStatus;
 import com.platform.studiotranslator.entity.ProjectEntity;
+import com.platform.studiotranslator.projection.EntityVersionView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,4 +30,17 @@ public interface ProjectRepository extends JpaRepository<ProjectEntity, UUID> {
 
     Page<ProjectEntity> findByTranslatorIdAndStatus(UUID translatorId, ProjectStatus status, Pageable pageable);
 
+    // Atomic counter update instead of read-modify-write. Bumps version/updatedAt so the project ETag changes.
+    @Modifying
+    @Query("UPDATE ProjectEntity p SET p.chapterCount = p.chapterCount + :delta, p.version = p.version + 1, p.updatedAt = :now WHERE p.id = :id")
+    int incrementChapterCount(@Param("id") UUID id, @Param("delta") int delta, @Param("now") Instant now);
+
+    // CONDITIONAL GET: validators only
+    @Query("SELECT p.id AS id, p.version AS version, p.updatedAt AS updatedAt FROM ProjectEntity p WHERE p.slug = :slug")
+    Optional<EntityVersionView> findVersionBySlug(@Param("slug") String slug);
+
+    // Everything ProjectResponse needs, in one query
+    @Query("SELECT p FROM ProjectEntity p JOIN FETCH p.translator t JOIN FETCH t.user LEFT JOIN FETCH p.genres WHERE p.id IN :ids")
+    List<ProjectEntity> findWithTranslatorByIdIn(@Param("ids") Collection<UUID> ids);
+
 }
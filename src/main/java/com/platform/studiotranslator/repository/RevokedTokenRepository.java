@@ -0,0 +1,36 @@
+package com.platform.studiotranslator.repository;
+
+import com.platform.studiotranslator.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, UUID> {
+
+    @Query("SELECT r.jti FROM RevokedTokenEntity r WHERE r.expiresAt > :now")
+    List<UUID> findUnexpiredIds(@Param("now") Instant now);
+
+    /** Returns 0 if the token was already revoked, which is how a replayed refresh token is detected. */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO revoked_tokens (jti, subject, expires_at, revoked_at)
+            VALUES (:jti, :subject, :expiresAt, :revokedAt)
+            ON CONFLICT (jti) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("jti") UUID jti, @Param("subject") String subject,
+                       @Param("expiresAt") Instant expiresAt, @Param("revokedAt") Instant revokedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedTokenEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
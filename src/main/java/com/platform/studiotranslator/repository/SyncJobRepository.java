@@ -0,0 +1,25 @@
+package com.platform.studiotranslator.repository;
+
+import com.platform.studiotranslator.constant.SyncJobStatus;
+import com.platform.studiotranslator.entity.SyncJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SyncJobRepository extends JpaRepository<SyncJobEntity, UUID> {
+
+    // An unfinished job for the chapter, if any (used to de-duplicate repeated sync clicks)
+    Optional<SyncJobEntity> findFirstByChapterIdAndStatusIn(UUID chapterId, Collection<SyncJobStatus> statuses);
+
+    // Jobs interrupted by a restart, oldest first
+    List<SyncJobEntity> findByStatusInOrderByCreatedAtAsc(Collection<SyncJobStatus> statuses);
+
+    // RUNNING jobs whose lease ran out: the instance that claimed them is gone
+    List<SyncJobEntity> findByStatusAndLeaseExpiresAtBeforeOrderByCreatedAtAsc(SyncJobStatus status, Instant before);
+}
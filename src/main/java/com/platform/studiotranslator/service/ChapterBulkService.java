@@ -0,0 +1,108 @@
+package com.platform.studiotranslator.service;
+
+import com.platform.studiotranslator.constant.ChapterStatus;
+import com.platform.studiotranslator.dto.chapter.BulkChapterRequest;
+import com.platform.studiotranslator.dto.chapter.ChapterResponse;
+import com.platform.studiotranslator.entity.ProjectEntity;
+import com.platform.studiotranslator.entity.UserEntity;
+import com.platform.studiotranslator.repository.ChapterRepository;
+import com.platform.studiotranslator.repository.ProjectRepository;
+import com.platform.studiotranslator.service.googledoc.GoogleWorkspaceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Creates many chapters at once (e.g. onboarding a project that already has 200 chapters).
+ * <p>
+ * Instead of the per-chapter round trips of {@link ChapterService#createChapter}: one query checks every
+ * chapter number, Drive creation and sharing go out as batch HTTP requests, the rows are inserted with a
+ * single JDBC batch and the project counter is bumped once. Drive calls happen before the transaction opens.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChapterBulkService {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO chapters (id, project_id, chapter_number, title, google_doc_id, google_doc_url,
+                                  status, view_count, word_count, created_at, updated_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, 'DRAFT', 0, 0, ?, ?, 0)
+            """;
+
+    private final ChapterService chapterService;
+    private final ChapterRepository chapterRepository;
+    private final ProjectRepository projectRepository;
+    private final GoogleWorkspaceService googleService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public List<ChapterResponse> createChapters(UserEntity user, BulkChapterRequest request) {
+        ProjectEntity project = chapterService.findOwnedProject(request.projectId(), user);
+        List<BulkChapterRequest.Item> items = request.chapters();
+
+        // A. Validate every chapter number with one query
+        Set<Double> numbers = new HashSet<>();
+        for (BulkChapterRequest.Item item : items) {
+            if (!numbers.add(item.chapterNumber())) {
+                throw new IllegalArgumentException("Chapter number " + item.chapterNumber() + " appears more than once.");
+            }
+        }
+        List<Double> existing = chapterRepository.findExistingChapterNumbers(project.getId(), numbers);
+        if (!existing.isEmpty()) {
+            throw new IllegalArgumentException("Chapter numbers already exist: " + existing.stream().sorted().toList());
+        }
+
+        // B. Drive batch requests (no transaction open)
+        List<String> titles = items.stream()
+                .map(item -> ChapterService.documentTitle(project, item.chapterNumber(), item.title()))
+                .toList();
+        List<String> docIds = googleService.createDocuments(titles);
+        try {
+            googleService.shareDocuments(docIds, user.getEmail());
+        } catch (RuntimeException ex) {
+            googleService.deleteDocuments(docIds);
+            throw ex;
+        }
+
+        // C. One JDBC batch + one counter update
+        Instant now = Instant.now();
+        Timestamp timestamp = Timestamp.from(now);
+        List<Object[]> rows = new ArrayList<>(items.size());
+        List<ChapterResponse> responses = new ArrayList<>(items.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            BulkChapterRequest.Item item = items.get(i);
+            UUID id = UUID.randomUUID();
+            String docUrl = ChapterService.documentUrl(docIds.get(i));
+
+            rows.add(new Object[]{id, project.getId(), item.chapterNumber(), item.title(), docIds.get(i), docUrl, timestamp, timestamp});
+            responses.add(new ChapterResponse(id, item.chapterNumber(), item.title(), null, 0, 0L, now,
+                    ChapterStatus.DRAFT, docUrl, null));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                projectRepository.incrementChapterCount(project.getId(), items.size(), now);
+            });
+        } catch (RuntimeException ex) {
+            // e.g. a concurrent create took one of the numbers; the docs were created but are not linked to anything
+            log.warn("Bulk insert of {} chapters for project {} failed, deleting their Google Docs", items.size(), project.getId());
+            googleService.deleteDocuments(docIds);
+            throw ex;
+        }
+
+        return responses;
+    }
+}
@@ -4,24 +4,38 @@ import com.platform.studiotranslator.constant.ChapterStatus;
 import com.platform.studiotranslator.constant.Role;
 import com.platform.studiotranslator.dto.chapter.ChapterRequest;
 import com.platform.studiotranslator.dto.chapter.ChapterResponse;
+import com.platform.studiotranslator.dto.chapter.ChapterTocResponse;
 import com.platform.studiotranslator.entity.ChapterEntity;
 import com.platform.studiotranslator.entity.ProjectEntity;
 import com.platform.studiotranslator.entity.UserEntity;
 import com.platform.studiotranslator.mapper.ChapterMapper;
+import com.platform.studiotranslator.projection.ChapterContentView;
+import com.platform.studiotranslator.projection.ChapterSyncState;
+import com.platform.studiotranslator.projection.ChapterTocStats;
+import com.platform.studiotranslator.projection.ChapterTocView;
+import com.platform.studiotranslator.projection.EntityVersionView;
 import com.platform.studiotranslator.repository.ChapterRepository;
 import com.platform.studiotranslator.repository.ProjectRepository;
+import com.platform.studiotranslator.service.cache.ChapterPayload;
+import com.platform.studiotranslator.service.cache.ChapterPayloadCache;
+import com.platform.studiotranslator.service.content.ChapterContentStorage;
+import com.platform.studiotranslator.service.googledoc.DocumentRevision;
+import com.platform.studiotranslator.service.googledoc.GoogleDocPool;
 import com.platform.studiotranslator.service.googledoc.GoogleWorkspaceService;
+import com.platform.studiotranslator.service.revision.ChapterRevisionStore;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -31,9 +45,16 @@ public class ChapterService {
     private final ChapterRepository chapterRepository;
     private final ProjectRepository projectRepository;
     private final GoogleWorkspaceService  googleService;
+    private final GoogleDocPool docPool;
+    private final ChapterViewCounter viewCounter;
+    private final ChapterPayloadCache payloadCache;
+    private final ChapterContentStorage contentStorage;
+    private final ChapterRevisionStore revisionStore;
 
     private final ChapterMapper chapterMapper;
 
+    private static final int MAX_TOC_PAGE_SIZE = 500;
+
     @Transactional
     public ChapterResponse createChapter(UserEntity user, ChapterRequest request) {
 
@@ -46,15 +67,21 @@ public class ChapterService {
             throw new IllegalArgumentException("Chapter number " + request.chapterNumber() + " already exists.");
         }
 
-        String docTitle = String.format("[%s] Ch %.1f - %s", project.getTitle(), request.chapterNumber(), request.title());
+        String docTitle = documentTitle(project, request.chapterNumber(), request.title());
 
-        String docId = googleService.createDocument(docTitle);
+        // 1. Take a pre-created blank doc; it is renamed and shared after commit, off the request thread
+        String docId = docPool.claim().orElse(null);
+        if (docId != null) {
+            docPool.finishClaimAsync(docId, docTitle, user.getEmail());
+        } else {
+            docId = googleService.createDocument(docTitle);
 
-        // 2. Share with Translator (so they can actually edit it!)
-        // The Service Account owns the file, we give the Translator 'Writer' permission.
-        googleService.shareDocument(docId, user.getEmail());
+            // 2. Share with Translator (so they can actually edit it!)
+            // The Service Account owns the file, we give the Translator 'Writer' permission.
+            googleService.shareDocument(docId, user.getEmail());
+        }
 
-        String googleDocUrl = "https://docs.google.com/document/d/" + docId + "/edit";
+        String googleDocUrl = documentUrl(docId);
 
         // D. Save Entity
         ChapterEntity chapter = ChapterEntity.builder()
@@ -68,77 +95,178 @@ public class ChapterService {
                 .viewCount(0L)
                 .build();
 
-        // Update Project Stats (Optional: Update total chapters)
-        project.setChapterCount(project.getChapterCount() + 1);
-        projectRepository.save(project);
+        ChapterEntity saved = chapterRepository.save(chapter);
+
+        // Update Project Stats: atomic increment, so concurrent creates don't lose counts
+        projectRepository.incrementChapterCount(project.getId(), 1, Instant.now());
+
+        return mapToResponse(saved, true);
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectEntity findOwnedProject(UUID projectId, UserEntity user) {
+        ProjectEntity project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+
+        validateOwnership(project, user);
+        return project;
+    }
 
-        return mapToResponse(chapterRepository.save(chapter), true);
+    static String documentTitle(ProjectEntity project, Double chapterNumber, String title) {
+        return String.format("[%s] Ch %.1f - %s", project.getTitle(), chapterNumber, title);
+    }
+
+    static String documentUrl(String docId) {
+        return "https://docs.google.com/document/d/" + docId + "/edit";
     }
 
     // --- 2. SYNC & PUBLISH ---
-    @Transactional
-    public ChapterResponse syncAndPublish(UUID chapterId, UserEntity user) {
+    // The Drive export runs in ChapterSynchronizer on a sync worker, outside any transaction.
+    // Only the ownership check, the doc id lookup and the final write below touch the database.
+
+    @Transactional(readOnly = true)
+    public void validateCanSync(UUID chapterId, UserEntity user) {
+        validateOwnsChapter(chapterId, user);
+    }
+
+    @Transactional(readOnly = true)
+    public void validateOwnsChapter(UUID chapterId, UserEntity user) {
         ChapterEntity chapter = chapterRepository.findById(chapterId)
                 .orElseThrow(() -> new IllegalArgumentException("Chapter not found"));
 
         validateOwnership(chapter.getProject(), user);
+    }
+
+    @Transactional(readOnly = true)
+    public ChapterSyncState findSyncState(UUID chapterId) {
+        return chapterRepository.findSyncStateById(chapterId)
+                .orElseThrow(() -> new IllegalArgumentException("Chapter not found"));
+    }
 
-        // A. Fetch Content from Google
-        String htmlContent = googleService.getDocumentContent(chapter.getGoogleDocId());
+    @Transactional(readOnly = true)
+    public List<ChapterSyncState> findSyncStatesForProject(UUID projectId, UserEntity user) {
+        findOwnedProject(projectId, user);
+        return chapterRepository.findSyncStatesByProjectId(projectId);
+    }
 
-        // B. Calculate Stats
-        int wordCount = countWords(htmlContent); // Helper method
+    @Transactional
+    public ChapterResponse publishSyncedContent(UUID chapterId, ChapterContentStorage.Encoded content, int wordCount,
+                                                String contentHash, DocumentRevision revision) {
+        ChapterEntity chapter = chapterRepository.findById(chapterId)
+                .orElseThrow(() -> new IllegalArgumentException("Chapter not found"));
 
-        // C. Update Entity
-        chapter.setContent(htmlContent);
+        contentStorage.write(chapter, content);
+        chapter.setContentHash(contentHash);
+        chapter.setDriveVersion(revision.version());
+        chapter.setDriveModifiedAt(revision.modifiedTime());
         chapter.setWordCount(wordCount);
         chapter.setLastSyncedAt(Instant.now());
         chapter.setStatus(ChapterStatus.PUBLISHED);
 
-        return mapToResponse(chapterRepository.save(chapter), true);
-    }
+        // Flushed first: the row lock serializes revisions of this chapter
+        ChapterEntity saved = chapterRepository.saveAndFlush(chapter);
+        revisionStore.record(chapterId, contentStorage.decode(content), contentHash, wordCount);
+        payloadCache.invalidate(chapterId);
 
+        return mapToResponse(saved, true);
+    }
 
+    // The doc was touched but exports to the same HTML: remember the new Drive version only (no version bump, caches stay valid)
     @Transactional
+    public void recordUnchangedRevision(UUID chapterId, DocumentRevision revision) {
+        chapterRepository.updateDriveRevision(chapterId, revision.version(), revision.modifiedTime(), Instant.now());
+    }
+
+
+    @Transactional(readOnly = true)
     public ChapterResponse readChapter(UUID chapterId) {
-        ChapterEntity chapter = chapterRepository.findById(chapterId)
+        ChapterEntity chapter = findPublishedChapter(chapterId);
+
+        recordView(chapterId);
+
+        return mapToResponse(chapter, false); // False = hide google doc link
+    }
+
+    /**
+     * Same as {@link #readChapter} but returns the pre-serialized (and pre-gzipped) payload.
+     * Not transactional on purpose: a cache hit must not borrow a DB connection.
+     */
+    public ChapterPayload readChapterPayload(UUID chapterId, Long version) {
+        ChapterPayload payload = payloadCache.get(chapterId, version)
+                .orElseGet(() -> {
+                    ChapterEntity chapter = findPublishedChapter(chapterId);
+                    // Key by the version actually loaded, in case it moved since the caller's lookup
+                    return payloadCache.put(chapterId, chapter.getVersion(), withoutViewCount(mapToResponse(chapter, false)));
+                });
+
+        recordView(chapterId);
+
+        return payload;
+    }
+
+    // View counts move without a version bump (ChapterViewCounter flushes them directly), so a payload cached per
+    // version (and its ETag) cannot carry them; the table of contents does
+    private static ChapterResponse withoutViewCount(ChapterResponse response) {
+        return new ChapterResponse(response.id(), response.chapterNumber(), response.title(), response.content(),
+                response.wordCount(), null, response.updatedAt(), response.status(), response.googleDocUrl(),
+                response.lastSyncedAt());
+    }
+
+    // Increment View Count (buffered, flushed in batches by ChapterViewCounter)
+    public void recordView(UUID chapterId) {
+        viewCounter.increment(chapterId);
+    }
+
+    /**
+     * Stored content of a published chapter only (no metadata), for streaming the raw HTML.
+     */
+    @Transactional(readOnly = true)
+    public ChapterContentView readChapterContent(UUID chapterId) {
+        ChapterContentView content = chapterRepository.findContentByIdAndStatus(chapterId, ChapterStatus.PUBLISHED)
                 .orElseThrow(() -> new IllegalArgumentException("Chapter not found"));
 
-        // Rule: Public can only read PUBLISHED chapters
-        if (chapter.getStatus() != ChapterStatus.PUBLISHED) {
-            throw new SecurityException("This chapter is not published yet.");
-        }
+        recordView(chapterId);
 
-        // Increment View Count
-        chapter.setViewCount(chapter.getViewCount() + 1);
-        chapterRepository.save(chapter);
+        return content;
+    }
 
-        return mapToResponse(chapter, false); // False = hide google doc link
+    /**
+     * Validators (version / updatedAt) of a published chapter, without touching its content.
+     * Empty if the chapter doesn't exist or isn't published; callers fall back to {@link #readChapter}.
+     */
+    @Transactional(readOnly = true)
+    public Optional<EntityVersionView> findPublishedChapterVersion(UUID chapterId) {
+        return chapterRepository.findVersionByIdAndStatus(chapterId, ChapterStatus.PUBLISHED);
     }
 
     @Transactional(readOnly = true)
-    public List<ChapterResponse> getChaptersByProject(UUID projectId, boolean isTranslator) {
+    public ChapterTocStats getTableOfContentsStats(String slug, boolean canSeeDrafts) {
+        return canSeeDrafts
+                ? chapterRepository.findTocStatsByProjectSlug(slug)
+                : chapterRepository.findTocStatsByProjectSlugAndStatus(slug, ChapterStatus.PUBLISHED);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ChapterTocResponse> getChaptersByProject(UUID projectId, boolean isTranslator, Double after, Integer limit) {
         // If Translator: Show ALL (Drafts + Published) so they can see their work
         // If Reader: Show ONLY Published
-        List<ChapterEntity> chapters;
-
-        if (isTranslator) {
-            chapters = chapterRepository.findAllByProjectIdOrderByChapterNumberAsc(projectId);
-        } else {
-            chapters = chapterRepository.findAllByProjectIdAndStatusOrderByChapterNumberAsc(
-                    projectId, ChapterStatus.PUBLISHED
-            );
-        }
-
-        // Map list
-        return chapters.stream()
-                .map(c -> mapToResponse(c, isTranslator)) // isTranslator=true reveals Google Doc Links
-                .toList();
+        return findTableOfContents(projectId, isTranslator, after, limit);
     }
 
 
     // --- HELPERS ---
 
+    private ChapterEntity findPublishedChapter(UUID chapterId) {
+        ChapterEntity chapter = chapterRepository.findById(chapterId)
+                .orElseThrow(() -> new IllegalArgumentException("Chapter not found"));
+
+        // Rule: Public can only read PUBLISHED chapters
+        if (chapter.getStatus() != ChapterStatus.PUBLISHED) {
+            throw new SecurityException("This chapter is not published yet.");
+        }
+        return chapter;
+    }
+
     private void validateOwnership(ProjectEntity project, UserEntity user) {
         boolean isOwner = project.getTranslator().getId().equals(user.getId());
         boolean isAdmin = user.getRole() == Role.ADMIN;
@@ -147,20 +275,12 @@ public class ChapterService {
         }
     }
 
-    private int countWords(String html) {
-        if (html == null || html.isEmpty()) return 0;
-        // Strip HTML tags and count words
-        String text = html.replaceAll("<[^>]*>", " ");
-        String[] words = text.trim().split("\\s+");
-        return words.length;
-    }
-
     private ChapterResponse mapToResponse(ChapterEntity c, boolean includeSensitive) {
         return new ChapterResponse(
                 c.getId(),
                 c.getChapterNumber(),
                 c.getTitle(),
-                c.getContent(),
+                contentStorage.read(c),
                 c.getWordCount(),
                 c.getViewCount(),
                 c.getUpdatedAt(),
@@ -171,32 +291,50 @@ public class ChapterService {
     }
 
     @Transactional(readOnly = true)
-    public List<ChapterResponse> getChaptersByProjectSlug(String slug, boolean canSeeDrafts) {
+    public List<ChapterTocResponse> getChaptersByProjectSlug(String slug, boolean canSeeDrafts, Double after, Integer limit) {
         // 1. Resolve Slug -> Project ID
         // We need to find the project first to ensure it exists and get its UUID
         ProjectEntity project = projectRepository.findBySlug(slug)
                 .orElseThrow(() -> new IllegalArgumentException("Project not found with slug: " + slug));
 
-        List<ChapterEntity> chapters;
-
-        // 2. Fetch Chapters using the Project ID
-        if (canSeeDrafts) {
-            // Translator View: Show everything (Drafts + Published)
-            chapters = chapterRepository.findAllByProjectIdOrderByChapterNumberAsc(project.getId());
-        } else {
-            // Reader View: Show ONLY Published
-            chapters = chapterRepository.findAllByProjectIdAndStatusOrderByChapterNumberAsc(
-                    project.getId(),
-                    ChapterStatus.PUBLISHED
-            );
-        }
+        // 2. Fetch TOC rows (metadata only, never the chapter bodies)
+        return findTableOfContents(project.getId(), canSeeDrafts, after, limit);
+    }
 
-        // 3. Map to DTO
-        return chapters.stream()
-                .map(c -> mapToResponse(c, canSeeDrafts))
+    /**
+     * Seek pagination: returns chapters with a number strictly greater than {@code after},
+     * so the client passes the last chapter number it received to get the next slice.
+     * Without a limit the whole TOC is returned.
+     */
+    private List<ChapterTocResponse> findTableOfContents(UUID projectId, boolean canSeeDrafts, Double after, Integer limit) {
+        double cursor = after != null ? after : -1.0; // chapter numbers are never negative
+        Limit pageLimit = limit != null
+                ? Limit.of(Math.clamp(limit, 1, MAX_TOC_PAGE_SIZE))
+                : Limit.unlimited();
+
+        List<ChapterTocView> rows = canSeeDrafts
+                ? chapterRepository.findTocByProjectId(projectId, cursor, pageLimit)
+                : chapterRepository.findTocByProjectIdAndStatus(projectId, ChapterStatus.PUBLISHED, cursor, pageLimit);
+
+        return rows.stream()
+                .map(c -> mapToTocResponse(c, canSeeDrafts)) // canSeeDrafts=true reveals Google Doc links
                 .toList();
     }
 
+    private ChapterTocResponse mapToTocResponse(ChapterTocView c, boolean includeSensitive) {
+        return new ChapterTocResponse(
+                c.getId(),
+                c.getChapterNumber(),
+                c.getTitle(),
+                c.getStatus(),
+                c.getWordCount(),
+                c.getViewCount(),
+                c.getUpdatedAt(),
+                includeSensitive ? c.getGoogleDocUrl() : null, // Hide URL from readers
+                includeSensitive ? c.getLastSyncedAt() : null
+        );
+    }
+
     public ChapterResponse updateChapterStatus(UUID chapterId, @NotNull(message = "Status is required") ChapterStatus newStatus, UserEntity user) {
         ChapterEntity chapter = chapterRepository.findById(chapterId)
                 .orElseThrow(() -> new EntityNotFoundException("Chapter not found"));
@@ -212,6 +350,7 @@ public class ChapterService {
         chapter.setStatus(newStatus);
 
         ChapterEntity savedChapter = chapterRepository.save(chapter);
+        payloadCache.invalidate(chapterId);
 
         return chapterMapper.toResponse(savedChapter);
     }
@@ -0,0 +1,137 @@
+package com.platform.studiotranslator.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind accumulator for chapter views.
+ * <p>
+ * Reads only bump an in-memory counter; the aggregated deltas are written back periodically
+ * with a single batched {@code UPDATE chapters SET view_count = view_count + ?}. The update
+ * does not touch {@code version}, so views never conflict with translator edits.
+ * <p>
+ * Counters are spread over several stripes (picked by thread) so a popular chapter does not
+ * turn into a single contended lock. Draining uses {@code remove()}, which is atomic per key,
+ * so no increment is lost between a read and a flush.
+ */
+@Slf4j
+@Component
+public class ChapterViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE chapters SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentHashMap<UUID, Long>[] stripes;
+    private final AtomicLong buffered = new AtomicLong();
+
+    private final Counter recordedCounter;
+    private final Counter flushedCounter;
+    private final Counter failedFlushCounter;
+
+    @SuppressWarnings("unchecked")
+    public ChapterViewCounter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        // Power of two so the stripe can be picked with a mask
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+
+        this.recordedCounter = Counter.builder("chapter.views.recorded")
+                .description("Chapter views accepted into the write-behind buffer")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("chapter.views.flushed")
+                .description("Chapter views written to the database")
+                .register(meterRegistry);
+        this.failedFlushCounter = Counter.builder("chapter.views.flush.failures")
+                .description("Flush attempts that failed and were re-buffered")
+                .register(meterRegistry);
+        Gauge.builder("chapter.views.buffered", buffered, AtomicLong::get)
+                .description("Chapter views waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    public void increment(UUID chapterId) {
+        stripeForCurrentThread().merge(chapterId, 1L, Long::sum);
+        buffered.incrementAndGet();
+        recordedCounter.increment();
+    }
+
+    /**
+     * Views recorded for this chapter that are not yet in the database.
+     */
+    public long pending(UUID chapterId) {
+        long total = 0;
+        for (ConcurrentHashMap<UUID, Long> stripe : stripes) {
+            total += stripe.getOrDefault(chapterId, 0L);
+        }
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${application.chapter.view-counter.flush-interval:5000}")
+    public void flush() {
+        Map<UUID, Long> deltas = drain();
+        if (deltas.isEmpty()) return;
+
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        long total = 0;
+        for (Map.Entry<UUID, Long> entry : deltas.entrySet()) {
+            batch.add(new Object[]{entry.getValue(), entry.getKey()});
+            total += entry.getValue();
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            flushedCounter.increment(total);
+            log.debug("Flushed {} views across {} chapters", total, deltas.size());
+        } catch (Exception ex) {
+            // Put the deltas back so the next run retries them
+            deltas.forEach((id, delta) -> stripes[0].merge(id, delta, Long::sum));
+            buffered.addAndGet(total);
+            failedFlushCounter.increment();
+            log.warn("Failed to flush {} chapter views, will retry: {}", total, ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing buffered chapter views before shutdown");
+        flush();
+    }
+
+    private Map<UUID, Long> drain() {
+        Map<UUID, Long> deltas = new HashMap<>();
+        for (ConcurrentHashMap<UUID, Long> stripe : stripes) {
+            for (UUID id : stripe.keySet()) {
+                Long delta = stripe.remove(id);
+                if (delta != null) {
+                    deltas.merge(id, delta, Long::sum);
+                    buffered.addAndGet(-delta);
+                }
+            }
+        }
+        return deltas;
+    }
+
+    private ConcurrentHashMap<UUID, Long> stripeForCurrentThread() {
+        int h = Long.hashCode(Thread.currentThread().threadId());
+        h ^= (h >>> 16);
+        return stripes[h & (stripes.length - 1)];
+    }
+}
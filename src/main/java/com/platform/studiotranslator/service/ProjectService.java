@@ -1,14 +1,21 @@
 package com.platform.studiotranslator.service;
 
+import com.platform.studiotranslator.constant.Language;
 import com.platform.studiotranslator.constant.ProjectStatus;
 import com.platform.studiotranslator.constant.Role;
 import com.platform.studiotranslator.dto.common.UserInfo;
 import com.platform.studiotranslator.dto.project.ProjectRequest;
 import com.platform.studiotranslator.dto.project.ProjectResponse;
+import com.platform.studiotranslator.dto.project.ProjectSearchHit;
+import com.platform.studiotranslator.dto.project.ProjectSearchResponse;
 import com.platform.studiotranslator.entity.ProjectEntity;
 import com.platform.studiotranslator.entity.TranslatorEntity;
 import com.platform.studiotranslator.entity.UserEntity;
+import com.platform.studiotranslator.projection.EntityVersionView;
 import com.platform.studiotranslator.repository.ProjectRepository;
+import com.platform.studiotranslator.service.search.ProjectSearchIndex;
+import com.platform.studiotranslator.service.search.SearchCursor;
+import com.platform.studiotranslator.service.search.SearchHighlights;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,14 +23,23 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.text.Normalizer;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
     private final ProjectRepository projectRepository;
+    private final ProjectSearchIndex searchIndex;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
 
     private static final Pattern ALLOWED_SLUG_CHARS = Pattern.compile("[^\\p{L}\\p{N}-]");
     private static final Pattern WHITESPACE = Pattern.compile("[\\s]");
@@ -109,7 +125,7 @@ public class ProjectService {
         return mapToResponse(projectRepository.save(project));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public ProjectResponse getProjectBySlug(String slug) {
         ProjectEntity project = projectRepository.findBySlug(slug)
                 .orElseThrow(() -> new IllegalArgumentException("Project not found"));
@@ -117,6 +133,12 @@ public class ProjectService {
         return mapToResponse(project);
     }
 
+    // Validators only (for ETag / Last-Modified), no genres or translator joins
+    @Transactional(readOnly = true)
+    public Optional<EntityVersionView> findProjectVersion(String slug) {
+        return projectRepository.findVersionBySlug(slug);
+    }
+
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getAllProjects(Pageable pageable) {
         return projectRepository.findAll(pageable)
@@ -143,6 +165,44 @@ public class ProjectService {
         return page.map(this::mapToResponse);
     }
 
+    /**
+     * Full-text search, best matches first. Seek-paginated: {@code cursor} is the {@code nextCursor} of the previous page.
+     */
+    @Transactional(readOnly = true)
+    public ProjectSearchResponse searchProjects(String query, Language targetLanguage, String cursor, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query is too long");
+        }
+        int pageSize = Math.clamp(limit, 1, MAX_SEARCH_PAGE_SIZE);
+        SearchCursor after = cursor != null ? SearchCursor.decode(cursor) : null;
+
+        List<ProjectSearchIndex.Hit> hits = searchIndex.search(query.strip(), targetLanguage,
+                after != null ? after.rank() : null, after != null ? after.id() : null, pageSize);
+        if (hits.isEmpty()) {
+            return new ProjectSearchResponse(List.of(), null);
+        }
+
+        Map<UUID, ProjectEntity> projects = projectRepository.findWithTranslatorByIdIn(
+                        hits.stream().map(ProjectSearchIndex.Hit::id).toList()).stream()
+                .collect(Collectors.toMap(ProjectEntity::getId, Function.identity()));
+
+        List<ProjectSearchHit> results = hits.stream()
+                .filter(hit -> projects.containsKey(hit.id())) // deleted in between
+                .map(hit -> new ProjectSearchHit(
+                        mapToResponse(projects.get(hit.id())),
+                        hit.rank(),
+                        SearchHighlights.toHtml(hit.titleHighlight()),
+                        SearchHighlights.toHtml(hit.snippet())))
+                .toList();
+
+        ProjectSearchIndex.Hit last = hits.getLast();
+        String nextCursor = hits.size() == pageSize ? new SearchCursor(last.rank(), last.id()).encode() : null;
+        return new ProjectSearchResponse(results, nextCursor);
+    }
+
     @Transactional
     public void deleteProject(UUID projectId, UserEntity user) {
         ProjectEntity project = projectRepository.findById(projectId)
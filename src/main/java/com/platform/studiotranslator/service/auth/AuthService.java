@@ -6,17 +6,21 @@ import com.platform.studiotranslator.constant.Role;
 import com.platform.studiotranslator.dto.auth.*;
 import com.platform.studiotranslator.dto.common.UserInfo;
 import com.platform.studiotranslator.entity.UserEntity;
+import com.platform.studiotranslator.exception.RevokedTokenException;
 import com.platform.studiotranslator.repository.UserRepository;
+import io.jsonwebtoken.JwtException;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -24,11 +28,13 @@ import java.util.UUID;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottle loginThrottle;
     private final GoogleTokenVerifier googleVerifier;
+    private final TransactionTemplate transactionTemplate;
 
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
+    private final TokenRevocationStore revocationStore;
 
 
     @Transactional
@@ -48,19 +54,32 @@ public class AuthService {
         return buildAuthResponse(user);
     }
 
-    public AuthResponse login(LoginRequest request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.email(), request.password())
-        );
-
-        UserEntity user = userRepository.findByEmail(request.email())
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
-        return buildAuthResponse(user);
+    /**
+     * Checks the password on the {@link PasswordHasher} pool; the request thread is released while it runs.
+     * Unknown accounts still pay for a hash, so response times do not reveal which emails exist.
+     */
+    public CompletableFuture<AuthResponse> login(LoginRequest request, String clientIp) {
+        loginThrottle.checkLogin(clientIp, request.email());
+
+        UserEntity user = userRepository.findByEmail(request.email()).orElse(null);
+        String passwordHash = user != null ? user.getPasswordHash() : null;
+
+        return passwordHasher.matches(request.password(), passwordHash).thenApply(matches -> {
+            if (!matches) {
+                loginThrottle.loginFailed(request.email());
+                throw new BadCredentialsException("Bad credentials");
+            }
+            if (!user.isAccountNonLocked()) throw new LockedException("User account is locked");
+            if (!user.isEnabled()) throw new DisabledException("User is disabled");
+
+            loginThrottle.loginSucceeded(request.email());
+            return buildAuthResponse(user);
+        });
     }
 
-    @Transactional
-    public AuthResponse register(RegisterRequest request) {
+    public CompletableFuture<AuthResponse> register(RegisterRequest request, String clientIp) {
+        loginThrottle.checkRegistration(clientIp);
+
         if (userRepository.existsByEmail(request.email())) {
             throw new IllegalArgumentException("Email is already in use.");
         }
@@ -68,17 +87,19 @@ public class AuthService {
             throw new IllegalArgumentException("Display name is already taken.");
         }
 
-        UserEntity newUser = UserEntity.builder()
-                .displayName(request.displayName())
-                .email(request.email())
-                .passwordHash(passwordEncoder.encode(request.password()))
-                .authProvider(AuthProvider.LOCAL)
-                .role(Role.READER)
-                .build();
+        return passwordHasher.encode(request.password()).thenApply(passwordHash -> transactionTemplate.execute(status -> {
+            UserEntity newUser = UserEntity.builder()
+                    .displayName(request.displayName())
+                    .email(request.email())
+                    .passwordHash(passwordHash)
+                    .authProvider(AuthProvider.LOCAL)
+                    .role(Role.READER)
+                    .build();
 
-        userRepository.save(newUser);
+            userRepository.save(newUser);
 
-        return buildAuthResponse(newUser);
+            return buildAuthResponse(newUser);
+        }));
     }
 
     private UserEntity registerGoogleUser(GoogleIdToken.Payload payload) {
@@ -109,17 +130,40 @@ public class AuthService {
         return userRepository.save(newUser);
     }
 
+    /**
+     * Rotates the refresh token: the presented one is revoked and a new pair issued, so each refresh token works once.
+     */
     public AuthResponse refreshToken(RefreshTokenRequest request) {
-        String userEmail = jwtService.extractUsername(request.token());
+        // Throws on a bad signature or an expired token
+        TokenClaims claims = jwtService.verify(request.token());
+        if (claims.isAccessToken()) {
+            throw new IllegalArgumentException("Not a refresh token.");
+        }
+        // Atomic in the database: of two concurrent refreshes with the same token, only one wins
+        if (!revocationStore.revoke(claims)) {
+            log.warn("Reuse of a revoked refresh token for {}", claims.subject());
+            throw new RevokedTokenException("Refresh token has already been used or revoked.");
+        }
 
-        UserEntity user = userRepository.findByEmail(userEmail)
+        UserEntity user = userRepository.findByEmail(claims.subject())
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        if (jwtService.isTokenValid(request.token(), user)) {
-            return buildAuthResponse(user);
-        }
+        return buildAuthResponse(user);
+    }
 
-        throw new IllegalArgumentException("Invalid refresh token");
+    /** Revokes the given tokens; ones that are already expired or invalid are ignored. */
+    public void logout(String refreshToken, String accessToken) {
+        revokeQuietly(refreshToken);
+        revokeQuietly(accessToken);
+    }
+
+    private void revokeQuietly(String token) {
+        if (token == null) return;
+        try {
+            revocationStore.revoke(jwtService.verify(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Not revoking token: {}", e.getMessage());
+        }
     }
 
     private UserEntity updateExistingUserWithGoogleInfo(UserEntity user, GoogleIdToken.Payload payload) {
@@ -0,0 +1,26 @@
+package com.platform.studiotranslator.service.auth;
+
+import com.platform.studiotranslator.constant.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The caller of an authenticated request, built from the verified access-token claims without a database lookup.
+ * Handlers declaring {@code @AuthenticationPrincipal UserEntity} get the full entity from
+ * {@link com.platform.studiotranslator.service.cache.UserCache} instead.
+ */
+public record AuthenticatedUser(String email, Role role, UUID translatorId) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+}
@@ -0,0 +1,55 @@
+package com.platform.studiotranslator.service.auth;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Immutable Bloom filter over token ids. A UUID is already random, so its two halves serve as the two base hashes
+ * for double hashing; no hash function is needed.
+ */
+final class BloomFilter {
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    private BloomFilter(int bitCount, int hashCount) {
+        this.bits = new long[(bitCount + 63) >>> 6];
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /** Sized for the given ids at the requested false-positive rate. */
+    static BloomFilter of(Collection<UUID> ids, double falsePositiveRate) {
+        int expected = Math.max(ids.size(), 64);
+        int bitCount = (int) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+
+        BloomFilter filter = new BloomFilter(bitCount, hashCount);
+        for (UUID id : ids) filter.add(id);
+        return filter;
+    }
+
+    boolean mightContain(UUID id) {
+        long h1 = id.getMostSignificantBits();
+        long h2 = id.getLeastSignificantBits();
+        for (int i = 0; i < hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    private void add(UUID id) {
+        long h1 = id.getMostSignificantBits();
+        long h2 = id.getLeastSignificantBits();
+        for (int i = 0; i < hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private int index(long hash) {
+        return (int) Long.remainderUnsigned(hash, bitCount);
+    }
+}
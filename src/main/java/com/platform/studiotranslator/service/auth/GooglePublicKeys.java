@@ -0,0 +1,172 @@
+package com.platform.studiotranslator.service.auth;
+
+import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.GenericJson;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.Key;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Google's ID-token signing keys (JWKS), kept in memory and refreshed in the background.
+ * <p>
+ * The keys are fetched once at startup and then again shortly before the {@code Cache-Control: max-age} of the
+ * last response runs out, so token verification never waits on Google. A failed refresh keeps the current keys
+ * (Google publishes new keys well before it retires old ones) and is retried on the next tick. Only a token signed
+ * with a key we do not know yet triggers an early refresh, without delaying that request.
+ */
+@Slf4j
+@Component
+public class GooglePublicKeys {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    private record KeySet(Map<String, PublicKey> byKeyId, Instant expiresAt, Instant fetchedAt) {}
+
+    private final HttpTransport transport;
+    private final String certsUrl;
+    private final Duration refreshAhead;
+    private final Duration defaultMaxAge;
+    private final Clock clock;
+
+    private volatile KeySet keys;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    public GooglePublicKeys(
+            @Value("${application.google.id-token.certs-url:https://www.googleapis.com/oauth2/v3/certs}") String certsUrl,
+            @Value("${application.google.id-token.refresh-ahead:600000}") long refreshAheadMillis
+    ) throws GeneralSecurityException, IOException {
+        this(GoogleNetHttpTransport.newTrustedTransport(), certsUrl, Duration.ofMillis(refreshAheadMillis), Clock.systemUTC());
+    }
+
+    GooglePublicKeys(HttpTransport transport, String certsUrl, Duration refreshAhead, Clock clock) {
+        this.transport = transport;
+        this.certsUrl = certsUrl;
+        this.refreshAhead = refreshAhead;
+        this.defaultMaxAge = refreshAhead.multipliedBy(2);
+        this.clock = clock;
+    }
+
+    /**
+     * The key with this id, or {@code null} if Google has not published it (as far as we know).
+     * Only calls out to Google when no keys could be loaded yet.
+     */
+    public PublicKey get(String keyId) {
+        if (keyId == null) return null; // Map.copyOf maps reject null lookups
+
+        KeySet current = keys;
+        if (current == null) current = loadNow();
+
+        PublicKey key = current.byKeyId().get(keyId);
+        if (key == null && clock.instant().isAfter(current.fetchedAt().plus(MIN_REFRESH_INTERVAL))) {
+            // Possibly a key rotated in since the last fetch: look again, without holding up this request
+            Thread.ofVirtual().start(this::refresh);
+        }
+        return key;
+    }
+
+    @Scheduled(fixedDelayString = "${application.google.id-token.check-interval:60000}")
+    public void refreshIfDue() {
+        KeySet current = keys;
+        if (current == null || !clock.instant().isBefore(current.expiresAt().minus(refreshAhead))) {
+            refresh();
+        }
+    }
+
+    // Startup fetch failed (or has not run yet): the one case where a login waits for Google
+    private synchronized KeySet loadNow() {
+        if (keys == null) {
+            try {
+                keys = fetch();
+            } catch (IOException | GeneralSecurityException e) {
+                throw new IllegalStateException("Google signing keys are not available", e);
+            }
+        }
+        return keys;
+    }
+
+    void refresh() {
+        if (!refreshing.compareAndSet(false, true)) return;
+        try {
+            keys = fetch();
+            log.debug("Loaded {} Google signing keys, valid until {}", keys.byKeyId().size(), keys.expiresAt());
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            log.warn("Refreshing Google signing keys failed (keeping the current ones): {}", e.getMessage());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private KeySet fetch() throws IOException, GeneralSecurityException {
+        HttpResponse response = transport.createRequestFactory()
+                .buildGetRequest(new GenericUrl(certsUrl))
+                .execute();
+        try {
+            JwkSet jwks = GsonFactory.getDefaultInstance()
+                    .createJsonParser(response.getContent(), response.getContentCharset())
+                    .parseAndClose(JwkSet.class);
+
+            KeyFactory rsa = KeyFactory.getInstance("RSA");
+            Map<String, PublicKey> byKeyId = new HashMap<>();
+            for (Jwk jwk : jwks.keys) {
+                if (!"RSA".equals(jwk.kty) || jwk.kid == null) continue;
+                byKeyId.put(jwk.kid, rsa.generatePublic(new RSAPublicKeySpec(
+                        new BigInteger(1, Base64.getUrlDecoder().decode(jwk.n)),
+                        new BigInteger(1, Base64.getUrlDecoder().decode(jwk.e)))));
+            }
+            if (byKeyId.isEmpty()) throw new IOException("No RSA keys in " + certsUrl);
+
+            Instant now = clock.instant();
+            return new KeySet(Map.copyOf(byKeyId), now.plus(maxAge(response.getHeaders().getCacheControl())), now);
+        } finally {
+            response.disconnect();
+        }
+    }
+
+    private Duration maxAge(String cacheControl) {
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            if (matcher.find()) return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+        }
+        return defaultMaxAge;
+    }
+
+    public static class JwkSet extends GenericJson {
+        @Key
+        public List<Jwk> keys = List.of();
+    }
+
+    public static class Jwk extends GenericJson {
+        @Key
+        public String kid;
+        @Key
+        public String kty;
+        @Key
+        public String n;
+        @Key
+        public String e;
+    }
+}
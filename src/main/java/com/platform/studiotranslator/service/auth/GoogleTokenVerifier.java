@@ -1,44 +1,76 @@
 package com.platform.studiotranslator.service.auth;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.gson.GsonFactory;
 import com.platform.studiotranslator.exception.InvalidGoogleTokenException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
-import java.util.Collections;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.util.List;
 
+/**
+ * Verifies Google ID tokens locally: RS256 signature against {@link GooglePublicKeys}, issuer, audience
+ * (our client id) and expiry, with the same rules and clock skew as Google's {@code GoogleIdTokenVerifier}.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class GoogleTokenVerifier {
 
-    @Value("${spring.security.oauth2.client.registration.google.client-id}")
-    private String clientId;
+    private static final List<String> ISSUERS = List.of("accounts.google.com", "https://accounts.google.com");
+    private static final long ACCEPTABLE_SKEW_SECONDS = 300;
+
+    private final GooglePublicKeys publicKeys;
+    private final List<String> audience;
+    private final Clock clock;
+
+    @Autowired
+    public GoogleTokenVerifier(
+            GooglePublicKeys publicKeys,
+            @Value("${spring.security.oauth2.client.registration.google.client-id}") String clientId
+    ) {
+        this(publicKeys, clientId, Clock.systemUTC());
+    }
+
+    GoogleTokenVerifier(GooglePublicKeys publicKeys, String clientId, Clock clock) {
+        this.publicKeys = publicKeys;
+        this.audience = List.of(clientId);
+        this.clock = clock;
+    }
 
     public GoogleIdToken.Payload verify(String idTokenString) throws InvalidGoogleTokenException {
+        GoogleIdToken idToken;
         try {
-            GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(
-                    GoogleNetHttpTransport.newTrustedTransport(), new GsonFactory())
-                    .setAudience(Collections.singletonList(clientId))
-                    .build();
+            idToken = GoogleIdToken.parse(GsonFactory.getDefaultInstance(), idTokenString);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidGoogleTokenException("Malformed Google ID token");
+        }
 
-            GoogleIdToken idToken = verifier.verify(idTokenString);
+        if (!"RS256".equals(idToken.getHeader().getAlgorithm())
+                || !idToken.verifyIssuer(ISSUERS)
+                || !idToken.verifyAudience(audience)
+                || !idToken.verifyTime(clock.millis(), ACCEPTABLE_SKEW_SECONDS)) {
+            throw new InvalidGoogleTokenException("Invalid Google ID token");
+        }
 
-            if (idToken != null) {
-                return idToken.getPayload();
-            } else {
+        String keyId = idToken.getHeader().getKeyId();
+        if (keyId == null || keyId.isBlank()) {
+            throw new InvalidGoogleTokenException("Invalid Google ID token");
+        }
+
+        PublicKey key = publicKeys.get(keyId);
+        try {
+            if (key == null || !idToken.verifySignature(key)) {
                 throw new InvalidGoogleTokenException("Invalid Google ID token");
             }
-        } catch (GeneralSecurityException | IOException e) {
-            throw new RuntimeException("Failed to verify Google Token", e);
+        } catch (GeneralSecurityException e) {
+            throw new InvalidGoogleTokenException("Invalid Google ID token");
         }
+        return idToken.getPayload();
     }
 }
@@ -1,7 +1,9 @@
 package com.platform.studiotranslator.service.auth;
 
+import com.platform.studiotranslator.constant.Role;
 import com.platform.studiotranslator.entity.UserEntity;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -14,27 +16,56 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
+/**
+ * Issues and verifies our HS256 tokens. The signing key and the (immutable, thread-safe) parser are built
+ * once at startup, and a token is parsed and verified exactly once per {@link #verify(String)}.
+ */
 @Service
 public class JwtService {
 
-    @Value("${application.security.jwt.secret-key}")
-    private String secretKey;
-
-    @Value("${application.security.jwt.expiration}")
-    private long jwtExpiration;
-
-    @Value("${application.security.jwt.refresh-token.expiration}")
-    private long refreshExpiration;
-
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    private static final String ROLE_CLAIM = "role";
+    private static final String TRANSLATOR_ID_CLAIM = "translatorId";
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+    private final long refreshExpiration;
+
+    public JwtService(
+            @Value("${application.security.jwt.secret-key}") String secretKey,
+            @Value("${application.security.jwt.expiration}") long jwtExpiration,
+            @Value("${application.security.jwt.refresh-token.expiration}") long refreshExpiration
+    ) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.jwtExpiration = jwtExpiration;
+        this.refreshExpiration = refreshExpiration;
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    /**
+     * Verifies the signature and expiry of the token and returns its claims.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public TokenClaims verify(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+
+        String role = claims.get(ROLE_CLAIM, String.class);
+        String translatorId = claims.get(TRANSLATOR_ID_CLAIM, String.class);
+
+        return new TokenClaims(
+                claims.getId() != null ? UUID.fromString(claims.getId()) : null,
+                claims.getSubject(),
+                role != null && role.startsWith(ROLE_PREFIX) ? Role.valueOf(role.substring(ROLE_PREFIX.length())) : null,
+                translatorId != null ? UUID.fromString(translatorId) : null,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration().toInstant()
+        );
     }
 
     public String generateAccessToken(UserEntity user) {
@@ -43,12 +74,12 @@ public class JwtService {
         String authority = user.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .findFirst()
-                .orElse("ROLE_READER");
+                .orElse(ROLE_PREFIX + Role.READER.name());
 
-        claims.put("role", authority);
+        claims.put(ROLE_CLAIM, authority);
 
         if (user.getTranslatorProfile() != null && user.getTranslatorProfile().getId() != null) {
-            claims.put("translatorId", user.getTranslatorProfile().getId().toString());
+            claims.put(TRANSLATOR_ID_CLAIM, user.getTranslatorProfile().getId().toString());
         }
 
         return buildToken(claims, user, jwtExpiration);
@@ -61,36 +92,11 @@ public class JwtService {
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
         return Jwts.builder()
                 .claims(extraClaims)
+                .id(UUID.randomUUID().toString())
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), Jwts.SIG.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
-
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -0,0 +1,107 @@
+package com.platform.studiotranslator.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.platform.studiotranslator.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cheap attempt limits checked before any password is hashed, so a credential-stuffing or mass-registration burst
+ * is turned away without spending CPU on it.
+ * <p>
+ * Fixed windows, started by the first attempt: every login attempt counts against the client IP, failed ones also
+ * against the account (a successful login clears that), and registrations count against the IP. Counters live in
+ * memory, per instance.
+ * <p>
+ * The IP is the request's remote address, which Tomcat resolves from X-Forwarded-For when the connection comes
+ * from a trusted proxy ({@code server.forward-headers-strategy}, {@code server.tomcat.remoteip.internal-proxies}).
+ * Without that, every client behind the load balancer would share one IP and one limit.
+ */
+@Component
+public class LoginThrottle {
+
+    private final Cache<String, AtomicInteger> loginsByIp;
+    private final Cache<String, AtomicInteger> failuresByAccount;
+    private final Cache<String, AtomicInteger> registrationsByIp;
+    private final int maxLoginsPerIp;
+    private final int maxFailuresPerAccount;
+    private final int maxRegistrationsPerIp;
+
+    private final Counter ipThrottled;
+    private final Counter accountThrottled;
+
+    public LoginThrottle(
+            MeterRegistry meterRegistry,
+            @Value("${application.security.login-throttle.max-logins-per-ip:30}") int maxLoginsPerIp,
+            @Value("${application.security.login-throttle.ip-window:60000}") long ipWindowMillis,
+            @Value("${application.security.login-throttle.max-failures-per-account:10}") int maxFailuresPerAccount,
+            @Value("${application.security.login-throttle.account-window:900000}") long accountWindowMillis,
+            @Value("${application.security.login-throttle.max-registrations-per-ip:10}") int maxRegistrationsPerIp,
+            @Value("${application.security.login-throttle.registration-window:3600000}") long registrationWindowMillis,
+            @Value("${application.security.login-throttle.max-tracked:100000}") long maxTracked
+    ) {
+        this.loginsByIp = window(ipWindowMillis, maxTracked);
+        this.failuresByAccount = window(accountWindowMillis, maxTracked);
+        this.registrationsByIp = window(registrationWindowMillis, maxTracked);
+        this.maxLoginsPerIp = maxLoginsPerIp;
+        this.maxFailuresPerAccount = maxFailuresPerAccount;
+        this.maxRegistrationsPerIp = maxRegistrationsPerIp;
+
+        this.ipThrottled = Counter.builder("auth.throttled")
+                .description("Login and registration attempts refused before hashing")
+                .tag("scope", "ip")
+                .register(meterRegistry);
+        this.accountThrottled = Counter.builder("auth.throttled")
+                .description("Login and registration attempts refused before hashing")
+                .tag("scope", "account")
+                .register(meterRegistry);
+    }
+
+    /** Counts a login attempt; throws if the IP or the account is over its limit. */
+    public void checkLogin(String clientIp, String email) {
+        AtomicInteger failures = failuresByAccount.getIfPresent(accountKey(email));
+        if (failures != null && failures.get() >= maxFailuresPerAccount) {
+            accountThrottled.increment();
+            throw new TooManyRequestsException("Too many failed sign-in attempts for this account, please try again later");
+        }
+        if (loginsByIp.get(clientIp, ip -> new AtomicInteger()).incrementAndGet() > maxLoginsPerIp) {
+            ipThrottled.increment();
+            throw new TooManyRequestsException("Too many sign-in attempts, please try again later");
+        }
+    }
+
+    public void loginFailed(String email) {
+        failuresByAccount.get(accountKey(email), key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public void loginSucceeded(String email) {
+        failuresByAccount.invalidate(accountKey(email));
+    }
+
+    /** Counts a registration attempt; throws if the IP is over its limit. */
+    public void checkRegistration(String clientIp) {
+        if (registrationsByIp.get(clientIp, ip -> new AtomicInteger()).incrementAndGet() > maxRegistrationsPerIp) {
+            ipThrottled.increment();
+            throw new TooManyRequestsException("Too many registrations from this address, please try again later");
+        }
+    }
+
+    private static String accountKey(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // expireAfterWrite: incrementing does not re-write the entry, so the window runs from the first attempt
+    private static Cache<String, AtomicInteger> window(long windowMillis, long maxTracked) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(windowMillis))
+                .maximumSize(maxTracked)
+                .build();
+    }
+}
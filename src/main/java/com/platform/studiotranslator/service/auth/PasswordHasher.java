@@ -0,0 +1,116 @@
+package com.platform.studiotranslator.service.auth;
+
+import com.platform.studiotranslator.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt on a small, fixed pool of platform threads instead of on request threads.
+ * <p>
+ * A hash is ~100 ms of pure CPU, so the pool is sized to (part of) the cores and has a bounded queue: when both
+ * are full the caller gets a 429 straight away rather than tying up a request thread. Results are handed back on
+ * virtual threads, so whatever the caller chains on (database writes, token signing) never occupies a hashing thread.
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final String unknownUserHash;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService callbacks = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("password-hash-callback-", 0).factory());
+
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.password-hashing.threads:0}") int threads,
+            @Value("${application.security.password-hashing.queue-capacity:64}") int queueCapacity
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.unknownUserHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        // Default: half the cores, so hashing bursts leave the rest for serving chapters
+        int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.password.hash.queue.depth", pool, p -> p.getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", pool, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes currently being computed")
+                .register(meterRegistry);
+        this.encodeTimer = hashTimer("encode", meterRegistry);
+        this.matchTimer = hashTimer("match", meterRegistry);
+        this.waitTimer = Timer.builder("auth.password.hash.wait")
+                .description("Time a password hash spent queued before a hashing thread picked it up")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("Password hashes rejected because the hashing queue was full")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * A {@code null} hash (unknown account, Google-only account) never matches, but is still checked against a
+     * throwaway hash so it takes as long as a real one.
+     */
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        String target = encodedPassword != null ? encodedPassword : unknownUserHash;
+        return submit(matchTimer, () -> passwordEncoder.matches(rawPassword, target) && encodedPassword != null);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+        callbacks.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> hash) {
+        long enqueuedAt = System.nanoTime();
+        CompletableFuture<T> result;
+        try {
+            result = CompletableFuture.supplyAsync(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return timer.record(hash);
+            }, pool);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("Too many sign-in attempts in progress, please retry shortly");
+        }
+        return result.whenCompleteAsync((value, error) -> {}, callbacks);
+    }
+
+    private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("auth.password.hash")
+                .description("Time spent computing a password hash")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
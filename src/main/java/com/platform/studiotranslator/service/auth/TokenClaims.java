@@ -0,0 +1,24 @@
+package com.platform.studiotranslator.service.auth;
+
+import com.platform.studiotranslator.constant.Role;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The claims of a token whose signature and expiry have been verified. {@code role} is only set on access tokens;
+ * {@code tokenId} (the {@code jti}) is missing on tokens issued before revocation existed.
+ */
+public record TokenClaims(UUID tokenId, String subject, Role role, UUID translatorId, Instant issuedAt, Instant expiresAt) {
+
+    public boolean isAccessToken() {
+        return role != null;
+    }
+
+    public AuthenticatedUser toPrincipal() {
+        if (!isAccessToken()) {
+            throw new IllegalStateException("Not an access token");
+        }
+        return new AuthenticatedUser(subject, role, translatorId);
+    }
+}
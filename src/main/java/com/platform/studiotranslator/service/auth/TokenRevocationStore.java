@@ -0,0 +1,107 @@
+package com.platform.studiotranslator.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.platform.studiotranslator.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Revoked token ids ({@code jti}): persisted in {@code revoked_tokens}, checked in memory.
+ * <p>
+ * All unexpired ids are loaded into a Bloom filter, rebuilt every {@code rebuild-interval}, so the common answer
+ * ("not revoked") costs a few bit lookups and no query. A filter hit is confirmed against the database (and the
+ * answer cached until the next rebuild), which also takes care of false positives. Ids revoked on this instance
+ * since the last rebuild are kept in a small exact set; revocations made on other instances are seen after their
+ * next rebuild here.
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private final RevokedTokenRepository repository;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private final Set<UUID> recentlyRevoked = ConcurrentHashMap.newKeySet();
+    private final Cache<UUID, Boolean> confirmed;
+
+    private final AtomicInteger revokedCount = new AtomicInteger();
+    private final Counter lookups;
+
+    public TokenRevocationStore(
+            RevokedTokenRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${application.security.revocation.confirmed-cache-size:10000}") long confirmedCacheSize
+    ) {
+        this.repository = repository;
+        this.falsePositiveRate = falsePositiveRate;
+        this.confirmed = Caffeine.newBuilder()
+                .maximumSize(confirmedCacheSize)
+                .build();
+
+        Gauge.builder("auth.tokens.revoked", revokedCount, AtomicInteger::get)
+                .description("Unexpired revoked tokens in the last Bloom filter rebuild")
+                .register(meterRegistry);
+        this.lookups = Counter.builder("auth.tokens.revocation.lookups")
+                .description("Revocation checks that had to go to the database (filter hits)")
+                .register(meterRegistry);
+    }
+
+    /** Tokens issued before ids were added to them have no id and cannot be revoked. */
+    public boolean isRevoked(UUID tokenId) {
+        if (tokenId == null) return false;
+        if (recentlyRevoked.contains(tokenId)) return true;
+
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(tokenId)) return false;
+
+        return confirmed.get(tokenId, id -> {
+            lookups.increment();
+            return repository.existsById(id);
+        });
+    }
+
+    /**
+     * Revokes the token until it expires.
+     *
+     * @return {@code false} if it was already revoked (for a refresh token: it has been used before)
+     */
+    public boolean revoke(TokenClaims claims) {
+        if (claims.tokenId() == null) return true;
+
+        boolean revoked = repository.insertIfAbsent(claims.tokenId(), claims.subject(), claims.expiresAt(), Instant.now()) > 0;
+        recentlyRevoked.add(claims.tokenId());
+        confirmed.invalidate(claims.tokenId());
+        return revoked;
+    }
+
+    @Scheduled(fixedDelayString = "${application.security.revocation.rebuild-interval:30000}")
+    public void rebuild() {
+        Instant now = Instant.now();
+        int purged = repository.deleteExpired(now);
+        List<UUID> ids = repository.findUnexpiredIds(now);
+
+        BloomFilter rebuilt = BloomFilter.of(ids, falsePositiveRate);
+        filter = rebuilt;
+        confirmed.invalidateAll();
+        // Whatever the new filter covers no longer needs the exact set (a false positive is confirmed in the database)
+        recentlyRevoked.removeIf(rebuilt::mightContain);
+        revokedCount.set(ids.size());
+
+        if (purged > 0) log.debug("Purged {} expired revoked tokens", purged);
+    }
+}
@@ -0,0 +1,14 @@
+package com.platform.studiotranslator.service.cache;
+
+/**
+ * A published chapter already serialized to JSON, plus its gzip variant,
+ * so repeat reads skip the DB, Jackson and compression entirely.
+ */
+public record ChapterPayload(
+        byte[] json,
+        byte[] gzip
+) {
+    public int sizeInBytes() {
+        return json.length + gzip.length;
+    }
+}
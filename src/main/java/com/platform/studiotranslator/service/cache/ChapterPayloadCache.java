@@ -0,0 +1,73 @@
+package com.platform.studiotranslator.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.platform.studiotranslator.util.CompressionUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded (by bytes) in-process cache of published chapter payloads.
+ * <p>
+ * Entries are keyed by chapter id + entity version, so a re-sync naturally misses;
+ * {@link #invalidate(UUID)} additionally drops old versions right away instead of waiting for eviction.
+ * Caffeine's W-TinyLFU policy keeps popular chapters resident.
+ */
+@Slf4j
+@Component
+public class ChapterPayloadCache {
+
+    private record Key(UUID chapterId, Long version) {}
+
+    private final Cache<Key, ChapterPayload> cache;
+    private final JsonMapper jsonMapper;
+
+    public ChapterPayloadCache(
+            JsonMapper jsonMapper,
+            MeterRegistry meterRegistry,
+            @Value("${application.chapter.payload-cache.max-bytes:67108864}") long maxBytes
+    ) {
+        this.jsonMapper = jsonMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, ChapterPayload payload) -> payload.sizeInBytes())
+                .recordStats()
+                .build();
+
+        // hits, misses, evictions, size
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "chapterPayloads");
+        Gauge.builder("cache.resident.bytes", cache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L))
+                        .orElse(0L))
+                .tag("cache", "chapterPayloads")
+                .description("Bytes held by the chapter payload cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public Optional<ChapterPayload> get(UUID chapterId, Long version) {
+        return Optional.ofNullable(cache.getIfPresent(new Key(chapterId, version)));
+    }
+
+    /**
+     * Serializes and compresses the response once, then keeps it for the given version.
+     */
+    public ChapterPayload put(UUID chapterId, Long version, Object response) {
+        byte[] json = jsonMapper.writeValueAsBytes(response);
+        ChapterPayload payload = new ChapterPayload(json, CompressionUtils.gzip(json));
+        cache.put(new Key(chapterId, version), payload);
+        return payload;
+    }
+
+    public void invalidate(UUID chapterId) {
+        cache.asMap().keySet().removeIf(key -> key.chapterId().equals(chapterId));
+    }
+}
@@ -0,0 +1,93 @@
+package com.platform.studiotranslator.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.platform.studiotranslator.constant.Role;
+import com.platform.studiotranslator.entity.UserEntity;
+import com.platform.studiotranslator.repository.UserRepository;
+import com.platform.studiotranslator.service.auth.AuthenticatedUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Short-lived, bounded cache of users for the handlers that need the full {@link UserEntity}; plain
+ * authentication works from the token claims alone ({@link AuthenticatedUser}).
+ * <p>
+ * Saved or deleted users are evicted right away (see {@link UserCacheInvalidator}). The role they end up with
+ * is also remembered for one access-token lifetime, so a token still carrying the previous role (or belonging
+ * to a deleted account) is rejected and the client has to refresh it. Changes made outside the application
+ * (plain SQL) are only picked up when the entry expires, and do not affect tokens already issued.
+ */
+@Component
+public class UserCache {
+
+    // role == null: the account was deleted
+    private record AccountChange(Role role) {}
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserEntity> users;
+    private final Cache<String, AccountChange> changes;
+
+    public UserCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.user-cache.ttl:60000}") long ttlMillis,
+            @Value("${application.security.user-cache.max-size:10000}") long maxSize,
+            @Value("${application.security.jwt.expiration}") long accessTokenTtlMillis
+    ) {
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        // Older tokens have expired by the time an entry is dropped
+        this.changes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(accessTokenTtlMillis))
+                .build();
+
+        // hits, misses, evictions, size
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users");
+    }
+
+    /**
+     * The user behind the principal; shared across requests, so treat it as read-only.
+     */
+    public UserEntity get(AuthenticatedUser principal) {
+        UserEntity user = users.get(principal.email(), email -> userRepository.findByEmail(email).orElse(null));
+        if (user == null) {
+            throw new DisabledException("Account no longer exists");
+        }
+        return user;
+    }
+
+    /**
+     * False when the account was deleted, or its role changed, after the token was issued.
+     */
+    public boolean isCurrent(AuthenticatedUser principal) {
+        AccountChange change = changes.getIfPresent(principal.email());
+        return change == null || change.role() == principal.role();
+    }
+
+    public void onSaved(UserEntity user) {
+        evict(user);
+        changes.put(user.getEmail(), new AccountChange(user.getRole()));
+    }
+
+    public void onDeleted(UserEntity user) {
+        evict(user);
+        changes.put(user.getEmail(), new AccountChange(null));
+    }
+
+    // By id as well: the email itself may just have changed
+    private void evict(UserEntity user) {
+        users.invalidate(user.getEmail());
+        users.asMap().values().removeIf(cached -> cached.getId().equals(user.getId()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.platform.studiotranslator.service.cache;
+
+import com.platform.studiotranslator.entity.UserEntity;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on {@link UserEntity}: every update or (soft) delete that goes through Hibernate reaches the
+ * {@link UserCache}, whichever service made it.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidator {
+
+    // Resolved lazily: listeners are created with the EntityManagerFactory, before the repositories exist
+    private final ObjectProvider<UserCache> userCache;
+
+    @PostUpdate
+    void onUpdate(UserEntity user) {
+        userCache.getObject().onSaved(user);
+    }
+
+    @PostRemove
+    void onRemove(UserEntity user) {
+        userCache.getObject().onDeleted(user);
+    }
+}
@@ -0,0 +1,77 @@
+package com.platform.studiotranslator.service.content;
+
+import com.platform.studiotranslator.util.CompressionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Converts chapters still stored as TEXT into gzip bytea, in small batches, once compressed storage is enabled.
+ * <p>
+ * Runs in the background after startup. Each batch is its own statement, so a restart simply resumes
+ * with the rows that are left. {@code version} is not bumped: the content itself doesn't change.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChapterContentCompressionMigrator {
+
+    private static final String SELECT_BATCH =
+            "SELECT id, content FROM chapters WHERE content IS NOT NULL AND content_gzip IS NULL LIMIT ?";
+    private static final String UPDATE_ROW =
+            "UPDATE chapters SET content_gzip = ?, content = NULL WHERE id = ? AND content IS NOT NULL";
+
+    private record Row(UUID id, String content) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChapterContentStorage contentStorage;
+
+    @Value("${application.chapter.content-storage.migration-batch-size:100}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startMigration() {
+        if (!contentStorage.isCompressed()) return;
+        Thread.ofVirtual().name("chapter-content-compression").start(this::migrate);
+    }
+
+    void migrate() {
+        long migrated = 0;
+        long bytesBefore = 0;
+        long bytesAfter = 0;
+
+        try {
+            while (true) {
+                List<Row> rows = jdbcTemplate.query(SELECT_BATCH,
+                        (rs, i) -> new Row(rs.getObject("id", UUID.class), rs.getString("content")),
+                        batchSize);
+                if (rows.isEmpty()) break;
+
+                List<Object[]> updates = rows.stream()
+                        .map(row -> new Object[]{CompressionUtils.gzip(row.content()), row.id()})
+                        .toList();
+                jdbcTemplate.batchUpdate(UPDATE_ROW, updates);
+
+                migrated += rows.size();
+                for (int i = 0; i < rows.size(); i++) {
+                    bytesBefore += rows.get(i).content().length();
+                    bytesAfter += ((byte[]) updates.get(i)[0]).length;
+                }
+            }
+        } catch (Exception ex) {
+            log.error("Chapter content compression stopped after {} rows: {}", migrated, ex.getMessage());
+            return;
+        }
+
+        if (migrated > 0) {
+            log.info("Compressed {} chapters: ~{} KB -> {} KB", migrated, bytesBefore / 1024, bytesAfter / 1024);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.platform.studiotranslator.service.content;
+
+import com.platform.studiotranslator.entity.ChapterEntity;
+import com.platform.studiotranslator.projection.ChapterContentView;
+import com.platform.studiotranslator.util.CompressionUtils;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides how chapter HTML is stored: plain TEXT ({@code content}) or gzip bytea ({@code content_gzip}).
+ * Reads understand both, so rows written before the mode was switched keep working.
+ */
+@Component
+public class ChapterContentStorage {
+
+    @Getter
+    @Value("${application.chapter.content-storage.compressed:false}")
+    private boolean compressed;
+
+    /**
+     * Column values for the two content columns, for writers that bypass the entity (JDBC batches).
+     */
+    public record Encoded(String content, byte[] contentGzip) {}
+
+    public Encoded encode(String html) {
+        return compressed && html != null
+                ? new Encoded(null, CompressionUtils.gzip(html))
+                : new Encoded(html, null);
+    }
+
+    public void write(ChapterEntity chapter, String html) {
+        write(chapter, encode(html));
+    }
+
+    public void write(ChapterEntity chapter, Encoded encoded) {
+        chapter.setContent(encoded.content());
+        chapter.setContentGzip(encoded.contentGzip());
+    }
+
+    public String decode(Encoded encoded) {
+        return read(encoded.content(), encoded.contentGzip());
+    }
+
+    public String read(ChapterEntity chapter) {
+        return read(chapter.getContent(), chapter.getContentGzip());
+    }
+
+    public String read(ChapterContentView view) {
+        return read(view.getContent(), view.getContentGzip());
+    }
+
+    /**
+     * Gzip bytes of the content, compressing on the fly only for rows still stored as TEXT.
+     */
+    public byte[] readGzip(ChapterContentView view) {
+        if (view.getContentGzip() != null) return view.getContentGzip();
+        return view.getContent() != null ? CompressionUtils.gzip(view.getContent()) : null;
+    }
+
+    private String read(String content, byte[] contentGzip) {
+        if (content != null) return content;
+        return contentGzip != null ? CompressionUtils.gunzipToString(contentGzip) : null;
+    }
+}
@@ -0,0 +1,78 @@
+package com.platform.studiotranslator.service.googledoc;
+
+import java.time.Duration;
+
+/**
+ * Consecutive-failure circuit breaker.
+ * <p>
+ * CLOSED until {@code failureThreshold} calls in a row fail, then OPEN (calls rejected) for {@code openDuration},
+ * then HALF_OPEN: a single trial call is let through; success closes the circuit, failure opens it again.
+ */
+class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInFlight) yield false;
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    // Call never reached Drive (rejected locally, interrupted): says nothing about Drive's health
+    synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    synchronized State state() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    Duration remainingOpen() {
+        long remaining;
+        synchronized (this) {
+            remaining = openNanos - (System.nanoTime() - openedAt);
+        }
+        return Duration.ofNanos(Math.max(0, remaining));
+    }
+}
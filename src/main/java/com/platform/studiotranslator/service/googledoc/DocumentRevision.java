@@ -0,0 +1,9 @@
+package com.platform.studiotranslator.service.googledoc;
+
+import java.time.Instant;
+
+/**
+ * Drive's change markers for a file: {@code version} is bumped on every edit, {@code modifiedTime} is for display/debugging.
+ */
+public record DocumentRevision(Long version, Instant modifiedTime) {
+}
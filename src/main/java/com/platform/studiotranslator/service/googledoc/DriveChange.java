@@ -0,0 +1,7 @@
+package com.platform.studiotranslator.service.googledoc;
+
+/**
+ * A Google Doc in our folder that changed, with its revision at the time of the change.
+ */
+public record DriveChange(String docId, DocumentRevision revision) {
+}
@@ -0,0 +1,18 @@
+package com.platform.studiotranslator.service.googledoc;
+
+import java.util.List;
+
+/**
+ * One page of the Drive change feed. Exactly one token is set: {@code nextPageToken} while more pages follow,
+ * {@code newStartPageToken} on the last page (where to resume on the next poll).
+ */
+public record DriveChangePage(List<DriveChange> changes, String nextPageToken, String newStartPageToken) {
+
+    public boolean isLastPage() {
+        return nextPageToken == null;
+    }
+
+    public String resumeToken() {
+        return nextPageToken != null ? nextPageToken : newStartPageToken;
+    }
+}
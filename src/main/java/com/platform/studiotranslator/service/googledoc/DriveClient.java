@@ -0,0 +1,213 @@
+package com.platform.studiotranslator.service.googledoc;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpResponseException;
+import com.platform.studiotranslator.exception.DriveUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * The single way out to Google Drive. Every call goes through, in order:
+ * <ol>
+ *     <li>a circuit breaker: after repeated Drive failures, calls fail fast with {@link DriveUnavailableException}</li>
+ *     <li>a bulkhead: at most {@code max-concurrent} calls in flight, so a slow Drive can't pin every thread and connection</li>
+ *     <li>a token bucket matched to the Drive per-user quota (applied to every attempt, retries included; a batch
+ *     request takes one token per call it carries, as Drive counts each of them against the quota)</li>
+ *     <li>retries with exponential backoff and full jitter on 429, 5xx, 403 rate-limit reasons and network errors</li>
+ * </ol>
+ * Latency is recorded per operation and outcome as a percentile histogram ({@code google.drive.calls}).
+ * Non-retryable errors (404, 400, permission errors) are rethrown unchanged.
+ */
+@Slf4j
+@Component
+public class DriveClient {
+
+    @FunctionalInterface
+    public interface DriveCall<T> {
+        T execute() throws IOException;
+    }
+
+    private static final Set<String> RATE_LIMIT_REASONS = Set.of("rateLimitExceeded", "userRateLimitExceeded");
+
+    private final TokenBucket rateLimiter;
+    private final Duration rateLimitMaxWait;
+    private final Semaphore bulkhead;
+    private final Duration bulkheadMaxWait;
+    private final CircuitBreaker circuitBreaker;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter retryCounter;
+    private final Counter rejectedCounter;
+
+    public DriveClient(
+            MeterRegistry meterRegistry,
+            @Value("${application.google.drive.rate-limit.permits-per-second:10}") double permitsPerSecond,
+            @Value("${application.google.drive.rate-limit.burst:20}") int burst,
+            @Value("${application.google.drive.rate-limit.max-wait:5000}") long rateLimitMaxWaitMillis,
+            @Value("${application.google.drive.bulkhead.max-concurrent:16}") int maxConcurrent,
+            @Value("${application.google.drive.bulkhead.max-wait:2000}") long bulkheadMaxWaitMillis,
+            @Value("${application.google.drive.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${application.google.drive.circuit-breaker.open-duration:30000}") long openDurationMillis,
+            @Value("${application.google.drive.retry.max-attempts:4}") int maxAttempts,
+            @Value("${application.google.drive.retry.initial-backoff:500}") long initialBackoffMillis,
+            @Value("${application.google.drive.retry.max-backoff:8000}") long maxBackoffMillis
+    ) {
+        this.rateLimiter = new TokenBucket(permitsPerSecond, burst);
+        this.rateLimitMaxWait = Duration.ofMillis(rateLimitMaxWaitMillis);
+        this.bulkhead = new Semaphore(maxConcurrent, true);
+        this.bulkheadMaxWait = Duration.ofMillis(bulkheadMaxWaitMillis);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, Duration.ofMillis(openDurationMillis));
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+
+        this.meterRegistry = meterRegistry;
+        this.retryCounter = Counter.builder("google.drive.retries")
+                .description("Drive calls retried after a rate limit / server / network error")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("google.drive.rejected")
+                .description("Drive calls rejected by the circuit breaker, bulkhead or rate limiter")
+                .register(meterRegistry);
+        Gauge.builder("google.drive.circuit.open", circuitBreaker, cb -> cb.state() == CircuitBreaker.State.OPEN ? 1 : 0)
+                .description("1 while the Drive circuit breaker is open")
+                .register(meterRegistry);
+        Gauge.builder("google.drive.inflight", bulkhead, b -> maxConcurrent - b.availablePermits())
+                .description("Drive calls currently in flight")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(String operation, DriveCall<T> call) throws IOException {
+        return execute(operation, () -> 1, call);
+    }
+
+    /**
+     * For batch requests: {@code cost} is asked before every attempt how many calls the attempt will send.
+     */
+    public <T> T execute(String operation, IntSupplier cost, DriveCall<T> call) throws IOException {
+        if (!circuitBreaker.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new DriveUnavailableException("Google Drive is temporarily unavailable", circuitBreaker.remainingOpen());
+        }
+
+        boolean permitted = false;
+        try {
+            permitted = bulkhead.tryAcquire(bulkheadMaxWait.toMillis(), TimeUnit.MILLISECONDS);
+            if (!permitted) {
+                rejectedCounter.increment();
+                circuitBreaker.onIgnored();
+                throw new DriveUnavailableException("Too many concurrent Google Drive calls", bulkheadMaxWait);
+            }
+            return executeWithRetry(operation, cost, call);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onIgnored();
+            throw new InterruptedIOException("Interrupted while waiting for Google Drive");
+        } finally {
+            if (permitted) bulkhead.release();
+        }
+    }
+
+    private <T> T executeWithRetry(String operation, IntSupplier cost, DriveCall<T> call) throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            if (!rateLimiter.acquire(cost.getAsInt(), rateLimitMaxWait)) {
+                rejectedCounter.increment();
+                circuitBreaker.onIgnored();
+                throw new DriveUnavailableException("Google Drive rate limit reached", rateLimitMaxWait);
+            }
+
+            long start = System.nanoTime();
+            try {
+                T result = call.execute();
+                record(operation, "success", start);
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (IOException e) {
+                boolean retryable = isRetryable(e);
+                record(operation, retryable ? "retryable_error" : "error", start);
+
+                if (!retryable) {
+                    // Drive answered, so it is healthy; the request itself was wrong (404, 400, 403 forbidden...)
+                    circuitBreaker.onSuccess();
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    circuitBreaker.onFailure();
+                    throw e;
+                }
+
+                long backoff = backoffMillis(attempt);
+                log.debug("Drive {} failed (attempt {}/{}): {}, retrying in {} ms",
+                        operation, attempt, maxAttempts, e.getMessage(), backoff);
+                retryCounter.increment();
+                Thread.sleep(backoff);
+            } catch (RuntimeException e) {
+                record(operation, "error", start);
+                circuitBreaker.onIgnored();
+                throw e;
+            }
+        }
+    }
+
+    // Full jitter: uniform in [0, min(max, initial * 2^(attempt-1))]
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void record(String operation, String outcome, long startNanos) {
+        Timer.builder("google.drive.calls")
+                .description("Latency of Google Drive API calls (per attempt)")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    static boolean isRetryable(IOException e) {
+        if (e instanceof GoogleJsonResponseException json) {
+            int status = json.getStatusCode();
+            if (status == 403) return hasRateLimitReason(json.getDetails());
+            return status == 429 || status >= 500;
+        }
+        if (e instanceof HttpResponseException http) {
+            // Media downloads (export) fail with a plain HttpResponseException
+            int status = http.getStatusCode();
+            if (status == 403) return http.getContent() != null && RATE_LIMIT_REASONS.stream().anyMatch(http.getContent()::contains);
+            return status == 429 || status >= 500;
+        }
+        // Connection reset, timeouts, DNS...
+        return !(e instanceof InterruptedIOException) || e instanceof SocketTimeoutException;
+    }
+
+    /** Same rules for one item of a batch request, which fails on its own without failing the batch. */
+    static boolean isRetryable(GoogleJsonError error) {
+        int status = error.getCode();
+        if (status == 403) return hasRateLimitReason(error);
+        return status == 429 || status >= 500;
+    }
+
+    private static boolean hasRateLimitReason(GoogleJsonError details) {
+        if (details == null || details.getErrors() == null) return false;
+        return details.getErrors().stream().anyMatch(info -> RATE_LIMIT_REASONS.contains(info.getReason()));
+    }
+}
@@ -0,0 +1,518 @@
+package com.platform.studiotranslator.service.googledoc;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns Google's {@code text/html} export into compact semantic HTML in a single streaming pass.
+ * <ul>
+ *     <li>drops {@code <head>}, {@code <style>}, {@code <script>}, comments and every class/style attribute</li>
+ *     <li>replaces the per-span class soup with {@code <strong>/<em>/<u>/<s>/<sup>/<sub>}, using the export's own CSS</li>
+ *     <li>drops empty spans/anchors and merges adjacent identical formatting</li>
+ *     <li>rewrites {@code https://www.google.com/url?q=...} tracking redirects to the real (http/https) target</li>
+ *     <li>drops {@code href}/{@code src} values with any other scheme than http/https (or mailto for links)</li>
+ *     <li>collapses whitespace</li>
+ * </ul>
+ * Only a small whitelist of tags and attributes survives; everything else is unwrapped (its text is kept).
+ */
+@Component
+public class GoogleDocHtmlNormalizer {
+
+    private static final Set<String> BLOCK_TAGS = Set.of(
+            "p", "h1", "h2", "h3", "h4", "h5", "h6", "ul", "ol", "li", "blockquote",
+            "table", "thead", "tbody", "tr", "td", "th"
+    );
+    private static final Set<String> INLINE_TAGS = Set.of("a", "strong", "em", "u", "s", "sup", "sub", "code");
+    private static final Set<String> RAW_TEXT_TAGS = Set.of("style", "script", "title");
+
+    private static final Map<String, String> INLINE_ALIASES = Map.of(
+            "b", "strong", "i", "em", "strike", "s", "del", "s"
+    );
+    private static final Map<String, Set<String>> KEPT_ATTRIBUTES = Map.ofEntries(
+            Map.entry("a", Set.of("href", "id")),
+            Map.entry("img", Set.of("src", "alt", "title")),
+            Map.entry("td", Set.of("colspan", "rowspan")),
+            Map.entry("th", Set.of("colspan", "rowspan")),
+            Map.entry("ol", Set.of("start")),
+            Map.entry("h1", Set.of("id")), Map.entry("h2", Set.of("id")), Map.entry("h3", Set.of("id")),
+            Map.entry("h4", Set.of("id")), Map.entry("h5", Set.of("id")), Map.entry("h6", Set.of("id"))
+    );
+
+    private static final Pattern CSS_RULE = Pattern.compile("([^{}]+)\\{([^}]*)}");
+    private static final Pattern CSS_CLASS_SELECTOR = Pattern.compile("\\.([A-Za-z0-9_-]+)");
+    private static final Pattern ATTRIBUTE = Pattern.compile(
+            "([^\\s=/>]+)(?:\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s>]+)))?");
+    private static final Pattern GOOGLE_REDIRECT = Pattern.compile(
+            "^https?://(?:www\\.)?google\\.com/url\\?(.*)$", Pattern.CASE_INSENSITIVE);
+    private static final Set<String> WEB_SCHEMES = Set.of("http", "https");
+    private static final Set<String> LINK_SCHEMES = Set.of("http", "https", "mailto");
+    private static final Set<String> IMAGE_SCHEMES = WEB_SCHEMES;
+
+    public String normalize(String html) {
+        if (html == null || html.isEmpty()) return html;
+
+        StringWriter out = new StringWriter(html.length() / 3);
+        normalize(new StringReader(html), out);
+        return out.toString();
+    }
+
+    public void normalize(Reader in, Writer out) {
+        try {
+            new Pass(in, out).run();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to normalize document HTML", e);
+        }
+    }
+
+    // --- FORMATTING ---
+
+    private record Formatting(String open, String close) {
+        static final Formatting NONE = new Formatting("", "");
+
+        static Formatting of(String declarations, boolean insideLink) {
+            String css = declarations.toLowerCase(Locale.ROOT).replace(" ", "");
+            List<String> tags = new ArrayList<>(4);
+
+            if (css.contains("font-weight:700") || css.contains("font-weight:800")
+                    || css.contains("font-weight:900") || css.contains("font-weight:bold")) tags.add("strong");
+            if (css.contains("font-style:italic")) tags.add("em");
+            // Google underlines every link span; the <a> already says that
+            if (css.contains("text-decoration:underline") && !insideLink) tags.add("u");
+            if (css.contains("line-through")) tags.add("s");
+            if (css.contains("vertical-align:super")) tags.add("sup");
+            else if (css.contains("vertical-align:sub")) tags.add("sub");
+
+            if (tags.isEmpty()) return NONE;
+
+            StringBuilder open = new StringBuilder();
+            StringBuilder close = new StringBuilder();
+            for (String tag : tags) {
+                open.append('<').append(tag).append('>');
+                close.insert(0, "</" + tag + ">");
+            }
+            return new Formatting(open.toString(), close.toString());
+        }
+    }
+
+    /**
+     * An open inline element. Its start tag is only written once real content shows up,
+     * which is how empty spans and anchors disappear.
+     */
+    private static final class Frame {
+        final String sourceTag;
+        final String open;
+        final String close;
+        boolean emitted;
+
+        Frame(String sourceTag, String open, String close) {
+            this.sourceTag = sourceTag;
+            this.open = open;
+            this.close = close;
+        }
+    }
+
+    private record Tag(String name, boolean closing, Map<String, String> attributes) {}
+
+    // --- SINGLE PASS ---
+
+    private static final class Pass {
+        private final Reader in;
+        private final Writer out;
+        private final char[] buffer = new char[8192];
+        private int position;
+        private int limit;
+
+        // class name -> CSS declarations, collected from the export's <style> block
+        private final Map<String, String> classStyles = new HashMap<>();
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        // Closed inline elements whose end tag is held back so an identical next element can be merged
+        private final List<Frame> pendingCloses = new ArrayList<>(4);
+
+        private boolean inHead;
+        private boolean pendingSpace;
+        private boolean atBlockStart = true;
+        private int linkDepth;
+
+        Pass(Reader in, Writer out) {
+            this.in = in;
+            this.out = out;
+        }
+
+        void run() throws IOException {
+            int c;
+            while ((c = read()) != -1) {
+                if (c == '<') {
+                    markup();
+                } else {
+                    text((char) c);
+                }
+            }
+
+            while (!frames.isEmpty()) {
+                closeFrame(frames.pop());
+            }
+            flushPendingCloses(pendingCloses.size());
+        }
+
+        // --- TEXT ---
+
+        private void text(char c) throws IOException {
+            if (inHead) return;
+
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !atBlockStart;
+                return;
+            }
+
+            beforeContent();
+            out.write(c);
+            atBlockStart = false;
+        }
+
+        // --- MARKUP ---
+
+        private void markup() throws IOException {
+            int next = read();
+            if (next == -1) return;
+
+            if (next == '!') {
+                if (read() == '-' && read() == '-') {
+                    skipPast("-->");
+                } else {
+                    skipPast(">");
+                }
+                return;
+            }
+            if (next == '?') {
+                skipPast(">");
+                return;
+            }
+
+            StringBuilder raw = new StringBuilder(32).append((char) next);
+            readTagBody(raw);
+            Tag tag = parseTag(raw);
+            if (tag == null) return;
+
+            String name = tag.name();
+
+            if (RAW_TEXT_TAGS.contains(name)) {
+                if (!tag.closing()) {
+                    String body = readRawText(name);
+                    if (name.equals("style")) parseStyles(body);
+                }
+                return;
+            }
+            if (name.equals("head")) {
+                inHead = !tag.closing();
+                return;
+            }
+            if (inHead || name.equals("html") || name.equals("body") || name.equals("meta") || name.equals("link")) {
+                return;
+            }
+
+            name = INLINE_ALIASES.getOrDefault(name, name);
+
+            if (name.equals("span")) {
+                if (tag.closing()) {
+                    closeFrameFor("span");
+                } else {
+                    frames.push(spanFrame(tag.attributes()));
+                }
+            } else if (INLINE_TAGS.contains(name)) {
+                if (tag.closing()) {
+                    if (closeFrameFor(name) && name.equals("a")) linkDepth = Math.max(0, linkDepth - 1);
+                } else {
+                    String attributes = attributes(name, tag.attributes());
+                    frames.push(new Frame(name, "<" + name + attributes + ">", "</" + name + ">"));
+                    if (name.equals("a")) linkDepth++;
+                }
+            } else if (BLOCK_TAGS.contains(name)) {
+                block(tag.closing()
+                        ? "</" + name + ">"
+                        : "<" + name + attributes(name, tag.attributes()) + ">");
+            } else if (name.equals("br") || name.equals("hr")) {
+                if (!tag.closing()) block("<" + name + ">");
+            } else if (name.equals("img")) {
+                if (!tag.closing()) {
+                    beforeContent();
+                    out.write("<img" + attributes(name, tag.attributes()) + ">");
+                    atBlockStart = false;
+                }
+            }
+            // Anything else (div, font, ...) is unwrapped: tag dropped, text kept
+        }
+
+        private void block(String html) throws IOException {
+            flushPendingCloses(pendingCloses.size());
+            pendingSpace = false;
+            out.write(html);
+            atBlockStart = true;
+        }
+
+        private Frame spanFrame(Map<String, String> attributes) {
+            StringBuilder declarations = new StringBuilder();
+            String classes = attributes.get("class");
+            if (classes != null) {
+                for (String className : classes.trim().split("\\s+")) {
+                    String css = classStyles.get(className);
+                    if (css != null) declarations.append(css).append(';');
+                }
+            }
+            String inline = attributes.get("style");
+            if (inline != null) declarations.append(inline);
+
+            Formatting formatting = Formatting.of(declarations.toString(), linkDepth > 0);
+            return new Frame("span", formatting.open(), formatting.close());
+        }
+
+        // --- FRAMES ---
+
+        private void openFrames() throws IOException {
+            if (frames.isEmpty()) return;
+
+            var iterator = frames.descendingIterator(); // outermost first
+            while (iterator.hasNext()) {
+                Frame frame = iterator.next();
+                if (frame.emitted) continue;
+                frame.emitted = true;
+                if (frame.open.isEmpty()) continue;
+
+                // Same formatting right after it was closed: reopen by dropping the held-back end tag
+                if (!pendingCloses.isEmpty()) {
+                    Frame last = pendingCloses.getLast();
+                    flushPendingCloses(pendingCloses.size() - 1);
+                    if (last.open.equals(frame.open)) {
+                        pendingCloses.clear();
+                        continue;
+                    }
+                    flushPendingCloses(1);
+                }
+                out.write(frame.open);
+            }
+        }
+
+        private boolean closeFrameFor(String sourceTag) throws IOException {
+            boolean found = frames.stream().anyMatch(frame -> frame.sourceTag.equals(sourceTag));
+            if (!found) return false;
+
+            Frame frame;
+            do {
+                frame = frames.pop();
+                closeFrame(frame);
+            } while (!frame.sourceTag.equals(sourceTag));
+            return true;
+        }
+
+        private void closeFrame(Frame frame) {
+            if (frame.emitted && !frame.close.isEmpty()) {
+                pendingCloses.add(frame);
+            }
+        }
+
+        private void flushPendingCloses(int count) throws IOException {
+            for (int i = 0; i < count && !pendingCloses.isEmpty(); i++) {
+                out.write(pendingCloses.removeFirst().close);
+            }
+        }
+
+        // Real content is about to be written: open deferred elements (merging where possible), then the space
+        private void beforeContent() throws IOException {
+            openFrames();
+            flushPendingCloses(pendingCloses.size());
+            if (pendingSpace) {
+                out.write(' ');
+                pendingSpace = false;
+            }
+        }
+
+        // --- ATTRIBUTES ---
+
+        private String attributes(String tagName, Map<String, String> attributes) {
+            Set<String> kept = KEPT_ATTRIBUTES.get(tagName);
+            if (kept == null || attributes.isEmpty()) return "";
+
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                String name = attribute.getKey();
+                if (!kept.contains(name)) continue;
+
+                String value = unescapeAttribute(attribute.getValue());
+                if (name.equals("href")) value = safeUrl(unwrapGoogleRedirect(value), LINK_SCHEMES);
+                else if (name.equals("src")) value = safeUrl(value, IMAGE_SCHEMES);
+                if (value == null) continue;
+
+                sb.append(' ').append(name).append("=\"").append(escapeAttribute(value)).append('"');
+            }
+            return sb.toString();
+        }
+
+        // Only web targets are unwrapped: anything else stays a (harmless) google.com link
+        private static String unwrapGoogleRedirect(String href) {
+            Matcher matcher = GOOGLE_REDIRECT.matcher(href);
+            if (!matcher.matches()) return href;
+
+            for (String parameter : matcher.group(1).split("&")) {
+                if (parameter.startsWith("q=")) {
+                    try {
+                        String target = URLDecoder.decode(parameter.substring(2), StandardCharsets.UTF_8);
+                        return WEB_SCHEMES.contains(scheme(target)) ? target : href;
+                    } catch (IllegalArgumentException ignored) {
+                        return href;
+                    }
+                }
+            }
+            return href;
+        }
+
+        /** The URL if it is relative or uses one of the schemes, otherwise {@code null}. */
+        private static String safeUrl(String url, Set<String> schemes) {
+            String scheme = scheme(url);
+            return scheme == null || schemes.contains(scheme) ? url : null;
+        }
+
+        // Browsers ignore control characters and whitespace in a scheme ("java\tscript:"), so this does too
+        private static String scheme(String url) {
+            StringBuilder scheme = new StringBuilder();
+            for (int i = 0; i < url.length(); i++) {
+                char c = url.charAt(i);
+                if (c == ':') return scheme.toString().toLowerCase(Locale.ROOT);
+                if (c == '/' || c == '?' || c == '#') return null;
+                if (c > ' ') scheme.append(c);
+            }
+            return null;
+        }
+
+        private static String unescapeAttribute(String value) {
+            if (value.indexOf('&') < 0) return value;
+            return value.replace("&quot;", "\"").replace("&#34;", "\"").replace("&#39;", "'")
+                    .replace("&lt;", "<").replace("&gt;", ">").replace("&amp;", "&");
+        }
+
+        private static String escapeAttribute(String value) {
+            return value.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;").replace(">", "&gt;");
+        }
+
+        // --- PARSING ---
+
+        private Tag parseTag(CharSequence raw) {
+            int i = 0;
+            int length = raw.length();
+            boolean closing = false;
+
+            if (raw.charAt(0) == '/') {
+                closing = true;
+                i = 1;
+            }
+            int nameStart = i;
+            while (i < length && !Character.isWhitespace(raw.charAt(i)) && raw.charAt(i) != '/') i++;
+            if (i == nameStart) return null;
+
+            String name = raw.subSequence(nameStart, i).toString().toLowerCase(Locale.ROOT);
+            if (closing || i >= length) return new Tag(name, closing, Map.of());
+
+            Map<String, String> attributes = new LinkedHashMap<>();
+            Matcher matcher = ATTRIBUTE.matcher(raw.subSequence(i, length));
+            while (matcher.find()) {
+                String value = matcher.group(2) != null ? matcher.group(2)
+                        : matcher.group(3) != null ? matcher.group(3)
+                        : matcher.group(4) != null ? matcher.group(4) : "";
+                attributes.putIfAbsent(matcher.group(1).toLowerCase(Locale.ROOT), value);
+            }
+            return new Tag(name, false, attributes);
+        }
+
+        private void parseStyles(String css) {
+            Matcher rule = CSS_RULE.matcher(css);
+            while (rule.find()) {
+                for (String selector : rule.group(1).split(",")) {
+                    Matcher simpleClass = CSS_CLASS_SELECTOR.matcher(selector.trim());
+                    if (simpleClass.matches()) {
+                        classStyles.merge(simpleClass.group(1), rule.group(2), (a, b) -> a + ";" + b);
+                    }
+                }
+            }
+        }
+
+        // --- READING ---
+
+        private int read() throws IOException {
+            if (position == limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[position++];
+        }
+
+        // Reads up to the closing '>' of a tag, honouring quoted attribute values
+        private void readTagBody(StringBuilder raw) throws IOException {
+            char quote = 0;
+            int c;
+            while ((c = read()) != -1) {
+                if (quote != 0) {
+                    if (c == quote) quote = 0;
+                } else if (c == '"' || c == '\'') {
+                    quote = (char) c;
+                } else if (c == '>') {
+                    break;
+                }
+                raw.append((char) c);
+            }
+            // Self-closing slash is irrelevant for the tags we keep
+            int last = raw.length() - 1;
+            if (last > 0 && raw.charAt(last) == '/') raw.setLength(last);
+        }
+
+        private String readRawText(String tagName) throws IOException {
+            String end = "</" + tagName;
+            StringBuilder body = new StringBuilder();
+            int c;
+            while ((c = read()) != -1) {
+                body.append((char) c);
+                if (c == '>' || body.length() < end.length()) continue;
+                // cheap check: only look back when the last char could end the closing tag name
+                if (Character.toLowerCase(c) == tagName.charAt(tagName.length() - 1)
+                        && body.substring(body.length() - end.length()).equalsIgnoreCase(end)) {
+                    skipPast(">");
+                    body.setLength(body.length() - end.length());
+                    break;
+                }
+            }
+            return body.toString();
+        }
+
+        private void skipPast(String terminator) throws IOException {
+            int matched = 0;
+            int c;
+            while ((c = read()) != -1) {
+                if (c == terminator.charAt(matched)) {
+                    if (++matched == terminator.length()) return;
+                } else {
+                    matched = c == terminator.charAt(0) ? 1 : 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.platform.studiotranslator.service.googledoc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps a stock of blank Google Docs (in {@code google_doc_pool}) so creating a chapter needs no Drive round trip.
+ * <p>
+ * {@link #claim()} marks the oldest doc as claimed with {@code FOR UPDATE SKIP LOCKED}; it joins the caller's
+ * transaction, so a rolled-back chapter creation puts the doc back. The rename and share owed to the translator
+ * are recorded on the row in the same transaction and done on a virtual thread after the commit, which then
+ * deletes the row. If Drive fails them, the scheduled refill retries them (up to {@code MAX_FINISH_ATTEMPTS}).
+ * The refill also tops the pool up in Drive batch requests, and claiming below the low watermark triggers an
+ * immediate one.
+ */
+@Slf4j
+@Component
+public class GoogleDocPool {
+
+    private static final String BLANK_TITLE = "Untitled chapter";
+
+    private static final int MAX_FINISH_ATTEMPTS = 10;
+    // Claims younger than this may still be finishing on their after-commit thread
+    private static final String FINISH_GRACE = "5 minutes";
+
+    private static final String CLAIM_SQL = """
+            UPDATE google_doc_pool SET claimed_at = NOW()
+            WHERE id = (SELECT id FROM google_doc_pool WHERE claimed_at IS NULL
+                        ORDER BY created_at LIMIT 1 FOR UPDATE SKIP LOCKED)
+            RETURNING google_doc_id
+            """;
+    private static final String RECORD_FINISH_SQL =
+            "UPDATE google_doc_pool SET finish_title = ?, finish_email = ? WHERE google_doc_id = ?";
+    private static final String FINISHED_SQL = "DELETE FROM google_doc_pool WHERE google_doc_id = ?";
+    private static final String FINISH_FAILED_SQL =
+            "UPDATE google_doc_pool SET finish_attempts = COALESCE(finish_attempts, 0) + 1 WHERE google_doc_id = ?";
+    private static final String UNFINISHED_SQL = """
+            SELECT google_doc_id, finish_title, finish_email FROM google_doc_pool
+            WHERE claimed_at < NOW() - CAST('%s' AS interval) AND finish_email IS NOT NULL
+              AND COALESCE(finish_attempts, 0) < ?
+            ORDER BY claimed_at
+            """.formatted(FINISH_GRACE);
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM google_doc_pool WHERE claimed_at IS NULL";
+    private static final String INSERT_SQL = "INSERT INTO google_doc_pool (id, google_doc_id, created_at) VALUES (?, ?, NOW())";
+
+    private final GoogleWorkspaceService googleService;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final boolean enabled;
+    private final int targetSize;
+    private final int lowWatermark;
+    private final int refillBatchSize;
+
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter createdCounter;
+    private final Counter lowWatermarkCounter;
+    private final Counter finishFailureCounter;
+
+    public GoogleDocPool(
+            GoogleWorkspaceService googleService,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${application.google.doc-pool.enabled:true}") boolean enabled,
+            @Value("${application.google.doc-pool.target-size:20}") int targetSize,
+            @Value("${application.google.doc-pool.low-watermark:5}") int lowWatermark,
+            @Value("${application.google.doc-pool.refill-batch-size:10}") int refillBatchSize
+    ) {
+        this.googleService = googleService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.targetSize = targetSize;
+        this.lowWatermark = lowWatermark;
+        this.refillBatchSize = refillBatchSize;
+
+        Gauge.builder("google.doc.pool.size", size, AtomicInteger::get)
+                .description("Blank Google Docs ready to be claimed")
+                .register(meterRegistry);
+        Gauge.builder("google.doc.pool.low", size, s -> s.get() < lowWatermark ? 1 : 0)
+                .description("1 while the pool is below its low watermark")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("google.doc.pool.claims").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("google.doc.pool.claims").tag("result", "miss").register(meterRegistry);
+        this.createdCounter = Counter.builder("google.doc.pool.created")
+                .description("Blank docs created by refills")
+                .register(meterRegistry);
+        this.lowWatermarkCounter = Counter.builder("google.doc.pool.low.watermark")
+                .description("Times the pool was found below its low watermark")
+                .register(meterRegistry);
+        this.finishFailureCounter = Counter.builder("google.doc.pool.finish.failures")
+                .description("Attempts to rename/share a claimed doc that failed (retried by the refill)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a blank doc from the pool, or empty if the pool is disabled or ran dry.
+     */
+    public Optional<String> claim() {
+        if (!enabled) return Optional.empty();
+
+        String docId;
+        try {
+            docId = jdbcTemplate.queryForObject(CLAIM_SQL, String.class);
+        } catch (EmptyResultDataAccessException e) {
+            docId = null;
+        }
+
+        if (docId == null) {
+            missCounter.increment();
+            triggerRefill();
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        if (size.decrementAndGet() < lowWatermark) {
+            triggerRefill();
+        }
+        return Optional.of(docId);
+    }
+
+    /**
+     * Records the rename and share owed to the translator and does them in the background, once the surrounding
+     * transaction has committed. Must run in the transaction that claimed the doc.
+     */
+    public void finishClaimAsync(String docId, String title, String email) {
+        jdbcTemplate.update(RECORD_FINISH_SQL, title, email, docId);
+        Runnable finish = () -> Thread.ofVirtual().name("doc-pool-finish-" + docId)
+                .start(() -> finish(docId, title, email));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    finish.run();
+                }
+            });
+        } else {
+            finish.run();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.google.doc-pool.refill-interval:60000}",
+            initialDelayString = "${application.google.doc-pool.initial-delay:10000}")
+    public void refill() {
+        if (!enabled || !refilling.compareAndSet(false, true)) return;
+
+        try {
+            retryUnfinishedClaims();
+
+            Integer count = jdbcTemplate.queryForObject(COUNT_SQL, Integer.class);
+            size.set(count != null ? count : 0);
+
+            if (size.get() < lowWatermark) {
+                lowWatermarkCounter.increment();
+                log.warn("Google Doc pool is low: {} docs left (low watermark {})", size.get(), lowWatermark);
+            }
+
+            int missing = targetSize - size.get();
+            if (missing <= 0) return;
+
+            List<String> docIds = googleService.createDocuments(
+                    Collections.nCopies(Math.min(missing, refillBatchSize), BLANK_TITLE));
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, docIds.stream()
+                        .map(docId -> new Object[]{UUID.randomUUID(), docId})
+                        .toList());
+            } catch (RuntimeException e) {
+                googleService.deleteDocuments(docIds);
+                throw e;
+            }
+
+            size.addAndGet(docIds.size());
+            createdCounter.increment(docIds.size());
+            log.debug("Added {} blank docs to the pool ({} available)", docIds.size(), size.get());
+        } catch (Exception e) {
+            log.warn("Google Doc pool refill failed: {}", e.getMessage());
+        } finally {
+            refilling.set(false);
+        }
+    }
+
+    private record UnfinishedClaim(String docId, String title, String email) {}
+
+    private void retryUnfinishedClaims() {
+        // Read first: no connection held across the Drive calls
+        List<UnfinishedClaim> unfinished = jdbcTemplate.query(UNFINISHED_SQL, (rs, i) -> new UnfinishedClaim(
+                rs.getString("google_doc_id"), rs.getString("finish_title"), rs.getString("finish_email")
+        ), MAX_FINISH_ATTEMPTS);
+        unfinished.forEach(claim -> finish(claim.docId(), claim.title(), claim.email()));
+    }
+
+    private void finish(String docId, String title, String email) {
+        try {
+            googleService.renameDocument(docId, title);
+            googleService.shareDocument(docId, email);
+            jdbcTemplate.update(FINISHED_SQL, docId);
+        } catch (Exception e) {
+            finishFailureCounter.increment();
+            log.error("Could not rename/share pooled doc {} for {}: {}", docId, email, e.getMessage());
+            try {
+                jdbcTemplate.update(FINISH_FAILED_SQL, docId);
+            } catch (RuntimeException ignored) {
+                // Still pending without the count: retried all the same
+            }
+        }
+    }
+
+    private void triggerRefill() {
+        if (!refilling.get()) {
+            Thread.ofVirtual().name("doc-pool-refill").start(this::refill);
+        }
+    }
+}
@@ -1,6 +1,16 @@
 package com.platform.studiotranslator.service.googledoc;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
 public interface GoogleWorkspaceService {
+
+    @FunctionalInterface
+    interface ExportHandler<T> {
+        T read(InputStream html) throws IOException;
+    }
+
     /**
      * Creates a blank Google Doc and returns the Doc ID.
      */
@@ -12,9 +22,46 @@ public interface GoogleWorkspaceService {
     void shareDocument(String docId, String email);
 
     /**
-     * Fetches the content.
-     * NOTE: Google APIs return JSON structure. You'll need a converter to HTML/Markdown.
-     * For now, this returns the raw text or converted HTML.
+     * Renames a doc (used when a pre-created blank doc from the pool becomes a chapter).
+     */
+    void renameDocument(String docId, String title);
+
+    /**
+     * Creates several blank docs with Drive batch requests; ids are returned in the order of the titles.
+     * All-or-nothing: if any creation fails, the ones that succeeded are deleted again.
+     */
+    List<String> createDocuments(List<String> titles);
+
+    /**
+     * Shares several docs with one user (Editor access) using Drive batch requests, without notification emails.
+     */
+    void shareDocuments(List<String> docIds, String email);
+
+    /**
+     * Best-effort deletion of docs that ended up linked to nothing (e.g. a bulk creation failing halfway);
+     * failures are logged, never thrown.
+     */
+    void deleteDocuments(List<String> docIds);
+
+    /**
+     * Streams the doc's HTML export (UTF-8) into the handler without buffering it.
+     * Fails with {@link com.platform.studiotranslator.exception.DocumentTooLargeException} once the export passes
+     * {@code maxBytes}. The handler runs again from scratch if the download is retried, so it must not keep state between calls.
+     */
+    <T> T exportDocument(String docId, long maxBytes, ExportHandler<T> handler);
+
+    /**
+     * Cheap metadata-only lookup (no export) used to tell whether the doc changed since the last sync.
+     */
+    DocumentRevision getDocumentRevision(String docId);
+
+    /**
+     * Token for the current head of the Drive change feed; changes after this point are listed from it.
+     */
+    String getChangesStartPageToken();
+
+    /**
+     * One page of the change feed, reduced to Google Docs in our folder (trashed and removed files are left out).
      */
-    String getDocumentContent(String docId);
+    DriveChangePage listChanges(String pageToken, int pageSize);
 }
@@ -1,17 +1,32 @@
 package com.platform.studiotranslator.service.googledoc;
 
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponse;
 import com.google.api.services.drive.Drive;
+import com.google.api.services.drive.model.Change;
+import com.google.api.services.drive.model.ChangeList;
 import com.google.api.services.drive.model.File;
 import com.google.api.services.drive.model.Permission;
+import com.platform.studiotranslator.exception.DocumentTooLargeException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -19,20 +34,26 @@ import java.util.Collections;
 public class GoogleWorkspaceServiceImpl implements GoogleWorkspaceService {
 
     private final Drive driveService;
+    private final DriveClient driveClient;
 
-    private static final String PARENT_FOLDER_ID = "1BzKp8CHJ7OhcFjU_7ZvFCYFtnl0baOcr";
+    static final String PARENT_FOLDER_ID = "1BzKp8CHJ7OhcFjU_7ZvFCYFtnl0baOcr";
+
+    private static final String GOOGLE_DOC_MIME_TYPE = "application/vnd.google-apps.document";
+
+    // HTML keeps the formatting; plain text ("text/plain") would lose it
+    private static final String EXPORT_MIME_TYPE = "text/html";
+
+    // Drive accepts at most 100 calls per batch request
+    private static final int MAX_BATCH_SIZE = 100;
 
     @Override
     public String createDocument(String title) {
         try {
-            File fileMetadata = new File();
-            fileMetadata.setName(title);
-            fileMetadata.setMimeType("application/vnd.google-apps.document");
-            fileMetadata.setParents(Collections.singletonList(PARENT_FOLDER_ID));
+            File fileMetadata = newDocumentMetadata(title);
 
-            File file = driveService.files().create(fileMetadata)
+            File file = driveClient.execute("files.create", () -> driveService.files().create(fileMetadata)
                     .setFields("id") // Only request the ID back to save bandwidth
-                    .execute();
+                    .execute());
 
             return file.getId();
         } catch (IOException e) {
@@ -49,29 +70,156 @@ public class GoogleWorkspaceServiceImpl implements GoogleWorkspaceService {
                     .setRole("writer")
                     .setEmailAddress(email);
 
-            driveService.permissions().create(docId, permission)
+            driveClient.execute("permissions.create", () -> driveService.permissions().create(docId, permission)
                     .setSendNotificationEmail(true) // Optional: sends an email to the user
-                    .execute();
+                    .execute());
         } catch (IOException e) {
             throw new RuntimeException("Failed to share document with " + email, e);
         }
     }
 
     @Override
-    public String getDocumentContent(String docId) {
+    public void renameDocument(String docId, String title) {
+        try {
+            driveClient.execute("files.update", () -> driveService.files().update(docId, new File().setName(title))
+                    .setFields("id")
+                    .execute());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to rename document " + docId, e);
+        }
+    }
+
+    @Override
+    public List<String> createDocuments(List<String> titles) {
+        String[] docIds = new String[titles.size()];
+        List<String> errors = new ArrayList<>();
+
+        try {
+            for (int from = 0; from < titles.size() && errors.isEmpty(); from += MAX_BATCH_SIZE) {
+                int start = from;
+                int end = Math.min(start + MAX_BATCH_SIZE, titles.size());
+                // The batch is rebuilt per attempt, with only the docs not created yet
+                IntSupplier missing = () -> (int) Arrays.stream(docIds, start, end).filter(Objects::isNull).count();
+                driveClient.execute("batch.files.create", missing, () -> {
+                    BatchRequest batch = driveService.batch();
+                    List<String> retryable = new ArrayList<>();
+                    for (int i = start; i < end; i++) {
+                        if (docIds[i] != null) continue;
+                        int index = i;
+                        driveService.files().create(newDocumentMetadata(titles.get(i)))
+                                .setFields("id")
+                                .queue(batch, new JsonBatchCallback<>() {
+                                    @Override
+                                    public void onSuccess(File file, HttpHeaders responseHeaders) {
+                                        docIds[index] = file.getId();
+                                    }
+
+                                    @Override
+                                    public void onFailure(GoogleJsonError e, HttpHeaders responseHeaders) {
+                                        (DriveClient.isRetryable(e) ? retryable : errors).add(titles.get(index) + ": " + e.getMessage());
+                                    }
+                                });
+                    }
+                    if (batch.size() > 0) batch.execute();
+                    if (errors.isEmpty()) throwIfAnyToRetry(retryable);
+                    return null;
+                });
+            }
+        } catch (IOException e) {
+            deleteDocuments(Arrays.asList(docIds));
+            throw new RuntimeException("Failed to create Google Docs", e);
+        } catch (RuntimeException e) {
+            // e.g. a later chunk rejected by the circuit breaker, bulkhead or rate limiter (DriveUnavailableException)
+            deleteDocuments(Arrays.asList(docIds));
+            throw e;
+        }
+
+        if (!errors.isEmpty()) {
+            deleteDocuments(Arrays.asList(docIds));
+            throw new RuntimeException("Failed to create " + errors.size() + " Google Docs, first error: " + errors.getFirst());
+        }
+        return List.of(docIds);
+    }
+
+    @Override
+    public void shareDocuments(List<String> docIds, String email) {
+        boolean[] shared = new boolean[docIds.size()];
+        List<String> errors = new ArrayList<>();
+
         try {
-            // We use the Drive API to 'export' the proprietary Google Doc format
-            // into standard HTML or Plain Text.
-            // MIME type for HTML export: "text/html"
-            // MIME type for Plain Text: "text/plain"
-            String exportMimeType = "text/html";
+            for (int from = 0; from < docIds.size() && errors.isEmpty(); from += MAX_BATCH_SIZE) {
+                int start = from;
+                int end = Math.min(start + MAX_BATCH_SIZE, docIds.size());
+                IntSupplier missing = () -> (int) IntStream.range(start, end).filter(i -> !shared[i]).count();
+                driveClient.execute("batch.permissions.create", missing, () -> {
+                    BatchRequest batch = driveService.batch();
+                    List<String> retryable = new ArrayList<>();
+                    for (int i = start; i < end; i++) {
+                        if (shared[i]) continue;
+                        int index = i;
+                        String docId = docIds.get(i);
+                        Permission permission = new Permission()
+                                .setType("user")
+                                .setRole("writer")
+                                .setEmailAddress(email);
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                        driveService.permissions().create(docId, permission)
+                                .setSendNotificationEmail(false) // One email per chapter would flood the translator's inbox
+                                .queue(batch, new JsonBatchCallback<>() {
+                                    @Override
+                                    public void onSuccess(Permission created, HttpHeaders responseHeaders) {
+                                        shared[index] = true;
+                                    }
 
-            driveService.files().export(docId, exportMimeType)
-                    .executeMediaAndDownloadTo(outputStream);
+                                    @Override
+                                    public void onFailure(GoogleJsonError e, HttpHeaders responseHeaders) {
+                                        (DriveClient.isRetryable(e) ? retryable : errors).add(docId + ": " + e.getMessage());
+                                    }
+                                });
+                    }
+                    if (batch.size() > 0) batch.execute();
+                    if (errors.isEmpty()) throwIfAnyToRetry(retryable);
+                    return null;
+                });
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to share documents with " + email, e);
+        }
 
-            return outputStream.toString(StandardCharsets.UTF_8);
+        if (!errors.isEmpty()) {
+            throw new RuntimeException("Failed to share " + errors.size() + " documents with " + email + ", first error: " + errors.getFirst());
+        }
+    }
+
+    // Items of a batch fail one by one (a 100-call batch routinely gets a few 403 rateLimitExceeded): failing the
+    // attempt makes DriveClient back off and run the batch again, which then only holds the items still missing
+    private static void throwIfAnyToRetry(List<String> retryable) throws IOException {
+        if (!retryable.isEmpty()) {
+            throw new IOException(retryable.size() + " batch items hit a rate limit or server error, first: " + retryable.getFirst());
+        }
+    }
+
+    @Override
+    public <T> T exportDocument(String docId, long maxBytes, ExportHandler<T> handler) {
+        try {
+            return driveClient.execute("files.export", () -> {
+                HttpResponse response = driveService.files().export(docId, EXPORT_MIME_TYPE).executeMedia();
+                try {
+                    // Exports are usually chunked, but when Drive announces the size we can refuse before reading
+                    Long length = response.getHeaders().getContentLength();
+                    if (length != null && length > maxBytes) {
+                        throw new DocumentTooLargeException("Document export exceeds the " + maxBytes + " byte limit");
+                    }
+                    try (InputStream in = new SizeLimitedInputStream(response.getContent(), maxBytes)) {
+                        return handler.read(in);
+                    } catch (UncheckedIOException e) {
+                        // A broken download surfacing through a Reader/Writer: let DriveClient retry it
+                        throw e.getCause();
+                    }
+                } finally {
+                    response.disconnect();
+                }
+            });
 
         } catch (GoogleJsonResponseException e) {
             if (e.getStatusCode() == 404) {
@@ -82,4 +230,106 @@ public class GoogleWorkspaceServiceImpl implements GoogleWorkspaceService {
             throw new RuntimeException("Failed to fetch document content", e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public DocumentRevision getDocumentRevision(String docId) {
+        try {
+            File file = driveClient.execute("files.get", () -> driveService.files().get(docId)
+                    .setFields("version,modifiedTime") // A few bytes instead of the whole export
+                    .execute());
+
+            Instant modifiedTime = file.getModifiedTime() != null
+                    ? Instant.ofEpochMilli(file.getModifiedTime().getValue())
+                    : null;
+            return new DocumentRevision(file.getVersion(), modifiedTime);
+
+        } catch (GoogleJsonResponseException e) {
+            if (e.getStatusCode() == 404) {
+                throw new RuntimeException("Document not found: " + docId);
+            }
+            throw new RuntimeException("Google Drive API error", e);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to fetch document metadata", e);
+        }
+    }
+
+    @Override
+    public String getChangesStartPageToken() {
+        try {
+            return driveClient.execute("changes.getStartPageToken", () -> driveService.changes().getStartPageToken()
+                    .execute())
+                    .getStartPageToken();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to get the Drive change feed start token", e);
+        }
+    }
+
+    @Override
+    public DriveChangePage listChanges(String pageToken, int pageSize) {
+        try {
+            ChangeList page = driveClient.execute("changes.list", () -> driveService.changes().list(pageToken)
+                    .setPageSize(pageSize)
+                    .setSpaces("drive")
+                    .setIncludeRemoved(false)
+                    // Enough to filter on our folder and skip unchanged versions, without a files.get per change
+                    .setFields("nextPageToken,newStartPageToken,changes(fileId,file(mimeType,parents,trashed,version,modifiedTime))")
+                    .execute());
+
+            List<DriveChange> changes = new ArrayList<>();
+            if (page.getChanges() != null) {
+                for (Change change : page.getChanges()) {
+                    File file = change.getFile();
+                    if (file == null || Boolean.TRUE.equals(file.getTrashed())
+                            || !GOOGLE_DOC_MIME_TYPE.equals(file.getMimeType())
+                            || file.getParents() == null || !file.getParents().contains(PARENT_FOLDER_ID)) {
+                        continue;
+                    }
+                    Instant modifiedTime = file.getModifiedTime() != null
+                            ? Instant.ofEpochMilli(file.getModifiedTime().getValue())
+                            : null;
+                    changes.add(new DriveChange(change.getFileId(), new DocumentRevision(file.getVersion(), modifiedTime)));
+                }
+            }
+            return new DriveChangePage(changes, page.getNextPageToken(), page.getNewStartPageToken());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to list Drive changes", e);
+        }
+    }
+
+    private static File newDocumentMetadata(String title) {
+        File fileMetadata = new File();
+        fileMetadata.setName(title);
+        fileMetadata.setMimeType(GOOGLE_DOC_MIME_TYPE);
+        fileMetadata.setParents(Collections.singletonList(PARENT_FOLDER_ID));
+        return fileMetadata;
+    }
+
+    @Override
+    public void deleteDocuments(List<String> docIds) {
+        List<String> existing = docIds.stream().filter(Objects::nonNull).toList();
+        try {
+            for (int from = 0; from < existing.size(); from += MAX_BATCH_SIZE) {
+                List<String> chunk = existing.subList(from, Math.min(from + MAX_BATCH_SIZE, existing.size()));
+                driveClient.execute("batch.files.delete", chunk::size, () -> {
+                    BatchRequest batch = driveService.batch();
+                    for (String docId : chunk) {
+                        driveService.files().delete(docId).queue(batch, new JsonBatchCallback<>() {
+                            @Override
+                            public void onSuccess(Void unused, HttpHeaders responseHeaders) {
+                            }
+
+                            @Override
+                            public void onFailure(GoogleJsonError e, HttpHeaders responseHeaders) {
+                                log.warn("Could not delete orphaned Google Doc {}: {}", docId, e.getMessage());
+                            }
+                        });
+                    }
+                    batch.execute();
+                    return null;
+                });
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not delete orphaned Google Docs {}: {}", existing, e.getMessage());
+        }
+    }
+}
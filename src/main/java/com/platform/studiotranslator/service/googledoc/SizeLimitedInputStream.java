@@ -0,0 +1,55 @@
+package com.platform.studiotranslator.service.googledoc;
+
+import com.platform.studiotranslator.exception.DocumentTooLargeException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Fails with {@link DocumentTooLargeException} as soon as more than {@code maxBytes} have been read,
+ * so an oversized export is abandoned mid-download instead of being buffered first.
+ */
+class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private long count;
+
+    SizeLimitedInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) add(1);
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) add(n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        add(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void add(long n) {
+        count += n;
+        if (count > maxBytes) {
+            throw new DocumentTooLargeException("Document export exceeds the " + maxBytes + " byte limit");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.platform.studiotranslator.service.googledoc;
+
+import java.time.Duration;
+
+/**
+ * Blocking token bucket: refills {@code permitsPerSecond} continuously up to {@code burst}.
+ * Callers wait for their token (cheap on virtual threads), but never longer than {@code maxWait}.
+ */
+class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.capacity = Math.max(1, burst);
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Takes one token, waiting for it if needed. Returns false if the wait would exceed {@code maxWait}.
+     */
+    boolean acquire(Duration maxWait) throws InterruptedException {
+        return acquire(1, maxWait);
+    }
+
+    /**
+     * Takes {@code permits} tokens at once (a batch request counts every call in it). A cost above the burst
+     * can never be covered by saved-up tokens, so the time to refill that excess does not count against
+     * {@code maxWait}: only the wait beyond it does.
+     */
+    boolean acquire(int permits, Duration maxWait) throws InterruptedException {
+        if (permits <= 0) return true;
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            // Reserve the tokens now (tokens may go negative) so concurrent callers queue up fairly
+            waitNanos = tokens >= permits ? 0 : (long) Math.ceil((permits - tokens) / permitsPerNano);
+            long unavoidableNanos = (long) Math.ceil(Math.max(0, permits - capacity) / permitsPerNano);
+            if (waitNanos - unavoidableNanos > maxWait.toNanos()) return false;
+            tokens -= permits;
+        }
+        if (waitNanos > 0) {
+            Thread.sleep(Duration.ofNanos(waitNanos));
+        }
+        return true;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,92 @@
+package com.platform.studiotranslator.service.revision;
+
+import com.platform.studiotranslator.dto.chapter.ChapterDiffResponse;
+import com.platform.studiotranslator.dto.chapter.ChapterRevisionResponse;
+import com.platform.studiotranslator.entity.ChapterRevisionEntity;
+import com.platform.studiotranslator.entity.UserEntity;
+import com.platform.studiotranslator.repository.ChapterRevisionRepository;
+import com.platform.studiotranslator.service.ChapterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Revision history, single revisions and paragraph diffs for the chapter's translator (see {@link ChapterRevisionStore}).
+ */
+@Service
+@RequiredArgsConstructor
+public class ChapterRevisionService {
+
+    private final ChapterRevisionRepository revisionRepository;
+    private final ChapterRevisionStore revisionStore;
+    private final ChapterService chapterService;
+
+    @Transactional(readOnly = true)
+    public List<ChapterRevisionResponse> getHistory(UUID chapterId, UserEntity user) {
+        chapterService.validateOwnsChapter(chapterId, user);
+
+        return revisionRepository.findSummariesByChapterId(chapterId).stream()
+                .map(summary -> new ChapterRevisionResponse(
+                        summary.getRevisionNumber(),
+                        summary.getWordCount(),
+                        summary.getContentHash(),
+                        summary.getCreatedAt(),
+                        null
+                ))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public ChapterRevisionResponse getRevision(UUID chapterId, int revisionNumber, UserEntity user) {
+        chapterService.validateOwnsChapter(chapterId, user);
+
+        ChapterRevisionEntity revision = revisionStore.findRevision(chapterId, revisionNumber);
+        return new ChapterRevisionResponse(
+                revision.getRevisionNumber(),
+                revision.getWordCount(),
+                revision.getContentHash(),
+                revision.getCreatedAt(),
+                String.join("", revisionStore.reconstruct(revision))
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public ChapterDiffResponse diff(UUID chapterId, int fromRevision, int toRevision, UserEntity user) {
+        chapterService.validateOwnsChapter(chapterId, user);
+
+        List<String> from = revisionStore.reconstruct(revisionStore.findRevision(chapterId, fromRevision));
+        List<String> to = revisionStore.reconstruct(revisionStore.findRevision(chapterId, toRevision));
+
+        List<ParagraphDiff.Edit> edits = ParagraphDiff.diff(from, to, ParagraphDiff.MAX_EDITS);
+        if (edits == null) {
+            // Rewritten beyond recognition: show it as a full replacement
+            edits = List.of(new ParagraphDiff.Edit(ParagraphDiff.Op.DELETE, 0, 0, from.size()),
+                    new ParagraphDiff.Edit(ParagraphDiff.Op.INSERT, 0, 0, to.size()));
+        }
+        List<ChapterDiffResponse.Hunk> hunks = new ArrayList<>(edits.size());
+        int added = 0;
+        int removed = 0;
+
+        for (ParagraphDiff.Edit edit : edits) {
+            switch (edit.op()) {
+                case EQUAL -> hunks.add(new ChapterDiffResponse.Hunk(
+                        ChapterDiffResponse.HunkType.UNCHANGED, edit.length(), List.of()));
+                case DELETE -> {
+                    removed += edit.length();
+                    hunks.add(new ChapterDiffResponse.Hunk(ChapterDiffResponse.HunkType.REMOVED, edit.length(),
+                            from.subList(edit.aStart(), edit.aStart() + edit.length())));
+                }
+                case INSERT -> {
+                    added += edit.length();
+                    hunks.add(new ChapterDiffResponse.Hunk(ChapterDiffResponse.HunkType.ADDED, edit.length(),
+                            to.subList(edit.bStart(), edit.bStart() + edit.length())));
+                }
+            }
+        }
+        return new ChapterDiffResponse(chapterId, fromRevision, toRevision, added, removed, hunks);
+    }
+}
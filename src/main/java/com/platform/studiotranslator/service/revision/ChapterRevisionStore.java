@@ -0,0 +1,130 @@
+package com.platform.studiotranslator.service.revision;
+
+import com.platform.studiotranslator.entity.ChapterRevisionEntity;
+import com.platform.studiotranslator.repository.ChapterRevisionRepository;
+import com.platform.studiotranslator.util.CompressionUtils;
+import com.platform.studiotranslator.util.HashUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Publish history of chapters ({@code chapter_revisions}).
+ * <p>
+ * Every {@code snapshot-interval}-th revision is a full gzip snapshot; the ones in between store a paragraph
+ * delta against their predecessor. Reading a revision therefore costs one snapshot plus at most
+ * {@code snapshot-interval - 1} delta applications, however long the history. A delta that would not be much
+ * smaller than a snapshot (a rewrite) is stored as a snapshot instead, which also restarts the chain.
+ */
+@Slf4j
+@Component
+public class ChapterRevisionStore {
+
+    private final ChapterRevisionRepository revisionRepository;
+    private final int snapshotInterval;
+
+    private final DistributionSummary snapshotSizes;
+    private final DistributionSummary deltaSizes;
+    private final Timer reconstructTimer;
+
+    public ChapterRevisionStore(
+            ChapterRevisionRepository revisionRepository,
+            MeterRegistry meterRegistry,
+            @Value("${application.chapter.revisions.snapshot-interval:10}") int snapshotInterval
+    ) {
+        this.revisionRepository = revisionRepository;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+        this.snapshotSizes = DistributionSummary.builder("chapter.revisions.stored")
+                .description("Bytes stored per chapter revision")
+                .baseUnit("bytes")
+                .tag("kind", "snapshot")
+                .register(meterRegistry);
+        this.deltaSizes = DistributionSummary.builder("chapter.revisions.stored")
+                .description("Bytes stored per chapter revision")
+                .baseUnit("bytes")
+                .tag("kind", "delta")
+                .register(meterRegistry);
+        this.reconstructTimer = Timer.builder("chapter.revisions.reconstruct")
+                .description("Time to rebuild a revision from its snapshot and deltas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Appends freshly published HTML as the chapter's next revision (nothing happens if it equals the latest one).
+     * Must run in the publishing transaction, after the chapter row was updated: that row lock serializes
+     * revisions of the same chapter.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(UUID chapterId, String html, String contentHash, int wordCount) {
+        Optional<ChapterRevisionEntity> latest = revisionRepository.findFirstByChapterIdOrderByRevisionNumberDesc(chapterId);
+        if (latest.isPresent() && latest.get().getContentHash().equals(contentHash)) return;
+
+        int number = latest.map(revision -> revision.getRevisionNumber() + 1).orElse(1);
+        List<String> paragraphs = ParagraphDiff.split(html);
+        byte[] snapshot = CompressionUtils.gzip(html);
+
+        byte[] data = snapshot;
+        int snapshotRevision = number;
+
+        if (latest.isPresent() && number - latest.get().getSnapshotRevision() < snapshotInterval) {
+            List<String> previous = reconstruct(latest.get());
+            List<ParagraphDiff.Edit> edits = ParagraphDiff.diff(previous, paragraphs, ParagraphDiff.MAX_EDITS);
+            if (edits != null) {
+                byte[] delta = RevisionDelta.encode(previous.size(), paragraphs, edits);
+                if (delta.length * 2 < snapshot.length) {
+                    data = delta;
+                    snapshotRevision = latest.get().getSnapshotRevision();
+                }
+            }
+        }
+
+        revisionRepository.save(ChapterRevisionEntity.builder()
+                .chapterId(chapterId)
+                .revisionNumber(number)
+                .snapshotRevision(snapshotRevision)
+                .data(data)
+                .storedBytes(data.length)
+                .contentHash(contentHash)
+                .wordCount(wordCount)
+                .build());
+
+        (snapshotRevision == number ? snapshotSizes : deltaSizes).record(data.length);
+        log.debug("Chapter {} revision {} stored as {} ({} bytes)",
+                chapterId, number, snapshotRevision == number ? "snapshot" : "delta", data.length);
+    }
+
+    ChapterRevisionEntity findRevision(UUID chapterId, int revisionNumber) {
+        return revisionRepository.findByChapterIdAndRevisionNumber(chapterId, revisionNumber)
+                .orElseThrow(() -> new IllegalArgumentException("Revision not found"));
+    }
+
+    // Paragraphs of a revision: its snapshot, then each delta up to it
+    List<String> reconstruct(ChapterRevisionEntity revision) {
+        return reconstructTimer.record(() -> {
+            List<ChapterRevisionEntity> chain = revision.isSnapshot()
+                    ? List.of(revision)
+                    : revisionRepository.findByChapterIdAndRevisionNumberBetweenOrderByRevisionNumberAsc(
+                            revision.getChapterId(), revision.getSnapshotRevision(), revision.getRevisionNumber());
+
+            List<String> paragraphs = ParagraphDiff.split(CompressionUtils.gunzipToString(chain.getFirst().getData()));
+            for (ChapterRevisionEntity delta : chain.subList(1, chain.size())) {
+                paragraphs = RevisionDelta.apply(paragraphs, delta.getData());
+            }
+
+            if (!HashUtils.sha256Hex(String.join("", paragraphs)).equals(revision.getContentHash())) {
+                throw new IllegalStateException("Revision " + revision.getRevisionNumber() + " of chapter "
+                        + revision.getChapterId() + " does not match its hash");
+            }
+            return paragraphs;
+        });
+    }
+}
@@ -0,0 +1,167 @@
+package com.platform.studiotranslator.service.revision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Paragraph-level diff of normalized chapter HTML.
+ * <p>
+ * The HTML is cut after every closing block tag and {@code <br>/<hr>}, so joining the pieces gives back the exact
+ * input. Pieces are compared with Myers' O(ND) algorithm after trimming the common prefix and suffix (an edit
+ * usually touches a few paragraphs in the middle of a long chapter). Paragraphs are interned to ints first, so
+ * the inner loop compares ints rather than strings.
+ */
+final class ParagraphDiff {
+
+    enum Op { EQUAL, DELETE, INSERT }
+
+    /**
+     * A run of paragraphs: EQUAL covers {@code a[aStart..]} and {@code b[bStart..]}, DELETE covers {@code a[aStart..]},
+     * INSERT covers {@code b[bStart..]}.
+     */
+    record Edit(Op op, int aStart, int bStart, int length) {}
+
+    // Tracing the search costs O(edits²) ints; beyond this many changed paragraphs a diff is not worth it (~16 MB)
+    static final int MAX_EDITS = 2000;
+
+    private static final Pattern PARAGRAPH_END = Pattern.compile(
+            "(?<=</(?:p|h[1-6]|li|ul|ol|blockquote|tr|thead|tbody|table)>|<br>|<hr>)");
+
+    private ParagraphDiff() {
+    }
+
+    static List<String> split(String html) {
+        if (html == null || html.isEmpty()) return List.of();
+        return Arrays.asList(PARAGRAPH_END.split(html));
+    }
+
+    /**
+     * The edit script turning {@code a} into {@code b}, or {@code null} when the two differ in more than
+     * {@code maxEdits} paragraphs (the search is quadratic in the number of edits, and such a diff is not worth storing).
+     */
+    static List<Edit> diff(List<String> a, List<String> b, int maxEdits) {
+        int prefix = 0;
+        int maxPrefix = Math.min(a.size(), b.size());
+        while (prefix < maxPrefix && a.get(prefix).equals(b.get(prefix))) prefix++;
+
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && a.get(a.size() - 1 - suffix).equals(b.get(b.size() - 1 - suffix))) suffix++;
+
+        List<Edit> edits = new ArrayList<>();
+        if (prefix > 0) edits.add(new Edit(Op.EQUAL, 0, 0, prefix));
+
+        int aEnd = a.size() - suffix;
+        int bEnd = b.size() - suffix;
+        if (!middle(a.subList(prefix, aEnd), b.subList(prefix, bEnd), prefix, maxEdits, edits)) {
+            return null;
+        }
+
+        if (suffix > 0) edits.add(new Edit(Op.EQUAL, aEnd, bEnd, suffix));
+        return edits;
+    }
+
+    private static boolean middle(List<String> aLines, List<String> bLines, int offset, int maxEdits, List<Edit> edits) {
+        int n = aLines.size();
+        int m = bLines.size();
+        if (n == 0 && m == 0) return true;
+        if (n == 0 || m == 0) {
+            if (n + m > maxEdits) return false;
+            edits.add(n == 0 ? new Edit(Op.INSERT, offset, offset, m) : new Edit(Op.DELETE, offset, offset, n));
+            return true;
+        }
+
+        Map<String, Integer> ids = new HashMap<>();
+        int[] a = intern(aLines, ids);
+        int[] b = intern(bLines, ids);
+
+        int max = Math.min(n + m, maxEdits);
+        int center = max + 1;
+        int[] v = new int[2 * max + 3];
+        // v for every d, limited to diagonals -d-1..d+1, kept for the backtrack
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= max; d++) {
+            trace.add(Arrays.copyOfRange(v, center - d - 1, center + d + 2));
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[center + k - 1] < v[center + k + 1]))
+                        ? v[center + k + 1]
+                        : v[center + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[x] == b[y]) {
+                    x++;
+                    y++;
+                }
+                v[center + k] = x;
+                if (x >= n && y >= m) {
+                    backtrack(trace, n, m, offset, edits);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void backtrack(List<int[]> trace, int n, int m, int offset, List<Edit> edits) {
+        List<Edit> reversed = new ArrayList<>();
+        int x = n;
+        int y = m;
+
+        for (int d = trace.size() - 1; d > 0; d--) {
+            int[] v = trace.get(d);
+            int base = d + 1; // v[base + k] is diagonal k
+            int k = x - y;
+            int prevK = (k == -d || (k != d && v[base + k - 1] < v[base + k + 1])) ? k + 1 : k - 1;
+            int prevX = v[base + prevK];
+            int prevY = prevX - prevK;
+
+            // Snake back to where the edit happened
+            int snakeStartX = prevK == k + 1 ? prevX : prevX + 1;
+            if (x > snakeStartX) add(reversed, Op.EQUAL, snakeStartX, snakeStartX - k, x - snakeStartX);
+
+            if (prevK == k + 1) {
+                add(reversed, Op.INSERT, prevX, prevY, 1);
+            } else {
+                add(reversed, Op.DELETE, prevX, prevY, 1);
+            }
+            x = prevX;
+            y = prevY;
+        }
+        if (x > 0) add(reversed, Op.EQUAL, 0, 0, x);
+
+        Collections.reverse(reversed);
+        for (Edit edit : reversed) {
+            edits.add(new Edit(edit.op(), edit.aStart() + offset, edit.bStart() + offset, edit.length()));
+        }
+    }
+
+    // Adds an edit while walking backwards, merging it into the previous one when they are contiguous
+    private static void add(List<Edit> reversed, Op op, int aStart, int bStart, int length) {
+        if (!reversed.isEmpty()) {
+            Edit last = reversed.getLast();
+            boolean contiguous = switch (op) {
+                case EQUAL -> last.aStart() == aStart + length && last.bStart() == bStart + length;
+                case DELETE -> last.aStart() == aStart + length;
+                case INSERT -> last.bStart() == bStart + length;
+            };
+            if (last.op() == op && contiguous) {
+                reversed.set(reversed.size() - 1, new Edit(op, aStart, bStart, last.length() + length));
+                return;
+            }
+        }
+        reversed.add(new Edit(op, aStart, bStart, length));
+    }
+
+    private static int[] intern(List<String> lines, Map<String, Integer> ids) {
+        int[] result = new int[lines.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.computeIfAbsent(lines.get(i), line -> ids.size());
+        }
+        return result;
+    }
+}
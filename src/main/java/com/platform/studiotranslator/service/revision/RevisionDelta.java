@@ -0,0 +1,86 @@
+package com.platform.studiotranslator.service.revision;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Binary, gzipped delta between two paragraph lists: a sequence of "copy {@code length} paragraphs of the base
+ * from {@code start}" and "insert these paragraphs" instructions. Deleted paragraphs are simply not copied.
+ * <pre>
+ *   int baseSize, int ops, then per op:
+ *     0, int start, int length           (COPY)
+ *     1, int count, count x (int, bytes) (INSERT, UTF-8)
+ * </pre>
+ */
+final class RevisionDelta {
+
+    private static final byte COPY = 0;
+    private static final byte INSERT = 1;
+
+    private RevisionDelta() {
+    }
+
+    static byte[] encode(int baseSize, List<String> target, List<ParagraphDiff.Edit> edits) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            List<ParagraphDiff.Edit> kept = edits.stream().filter(edit -> edit.op() != ParagraphDiff.Op.DELETE).toList();
+
+            out.writeInt(baseSize);
+            out.writeInt(kept.size());
+            for (ParagraphDiff.Edit edit : kept) {
+                if (edit.op() == ParagraphDiff.Op.EQUAL) {
+                    out.writeByte(COPY);
+                    out.writeInt(edit.aStart());
+                    out.writeInt(edit.length());
+                } else {
+                    out.writeByte(INSERT);
+                    out.writeInt(edit.length());
+                    for (String paragraph : target.subList(edit.bStart(), edit.bStart() + edit.length())) {
+                        byte[] utf8 = paragraph.getBytes(StandardCharsets.UTF_8);
+                        out.writeInt(utf8.length);
+                        out.write(utf8);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode revision delta", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static List<String> apply(List<String> base, byte[] delta) {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(delta)))) {
+            int baseSize = in.readInt();
+            if (baseSize != base.size()) {
+                throw new IllegalStateException("Revision delta expects " + baseSize + " paragraphs, base has " + base.size());
+            }
+
+            int ops = in.readInt();
+            List<String> result = new ArrayList<>(base.size() + 16);
+            for (int i = 0; i < ops; i++) {
+                byte op = in.readByte();
+                if (op == COPY) {
+                    int start = in.readInt();
+                    result.addAll(base.subList(start, start + in.readInt()));
+                } else {
+                    int count = in.readInt();
+                    for (int j = 0; j < count; j++) {
+                        result.add(new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8));
+                    }
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode revision delta", e);
+        }
+    }
+}
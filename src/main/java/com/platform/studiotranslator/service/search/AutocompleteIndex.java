@@ -0,0 +1,277 @@
+package com.platform.studiotranslator.service.search;
+
+import com.platform.studiotranslator.constant.SuggestionType;
+import com.platform.studiotranslator.dto.project.AutocompleteSuggestion;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory autocomplete over project titles, original authors and translator names.
+ * <p>
+ * Two structures per entry: a sorted map of its word-start suffixes ({@code "the lord of the rings"} is also
+ * indexed as {@code "lord of the rings"}, {@code "of the rings"}, ...) for prefix matches, and the pg_trgm-style
+ * trigrams of its words for fuzzy matches ({@code "monychangers"} still finds {@code "The Moneychangers"}).
+ * Text is lower-cased and stripped of accents on both sides.
+ * <p>
+ * Writes are serialized; reads are lock-free over concurrent collections and may briefly see an entry half
+ * added or removed, which only affects that one suggestion. The index holds at most {@code maxEntries} entries;
+ * beyond that it refuses new ones and reports itself {@linkplain #isComplete() incomplete}.
+ */
+class AutocompleteIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Same default as pg_trgm's word_similarity_threshold, on the share of the query's trigrams an entry has
+    private static final double MIN_SIMILARITY = 0.5;
+    private static final int MIN_FUZZY_QUERY_LENGTH = 3;
+    private static final int MAX_PREFIX_CANDIDATES = 200;
+
+    // Rough per-object costs (compressed oops) for the memory estimate
+    private static final int ENTRY_BYTES = 120;
+    private static final int POSTING_BYTES = 48;
+    private static final int TERM_BYTES = 72;
+
+    private record Entry(int id, String key, SuggestionType type, String text, String normalized, String slug,
+                         UUID translatorId, Set<String> terms, Set<String> trigrams) {}
+
+    private final int maxEntries;
+
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Integer> entryIdsByKey = new HashMap<>();
+    private final ConcurrentSkipListMap<String, Set<Integer>> prefixes = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<Integer>> trigrams = new ConcurrentHashMap<>();
+
+    // Authors are shared: one entry, kept while any project references it
+    private final Map<String, Set<UUID>> authorProjects = new HashMap<>();
+    private final Map<UUID, String> authorKeyByProject = new HashMap<>();
+
+    private int nextId;
+    private volatile boolean complete = true;
+    private final AtomicLong postings = new AtomicLong();
+    private final AtomicLong chars = new AtomicLong();
+
+    AutocompleteIndex(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    // --- Writes ---
+
+    synchronized void putProject(UUID projectId, String slug, String title, String originalAuthor) {
+        put("project:" + projectId, SuggestionType.PROJECT, title, slug, null);
+
+        String authorKey = originalAuthor != null ? normalize(originalAuthor) : "";
+        String previous = authorKey.isEmpty() ? authorKeyByProject.remove(projectId) : authorKeyByProject.put(projectId, authorKey);
+        if (previous != null && !previous.equals(authorKey)) releaseAuthor(previous, projectId);
+        if (authorKey.isEmpty()) return;
+
+        Set<UUID> projects = authorProjects.get(authorKey);
+        if (projects == null) {
+            if (!put("author:" + authorKey, SuggestionType.AUTHOR, originalAuthor, null, null)) return;
+            projects = new HashSet<>();
+            authorProjects.put(authorKey, projects);
+        }
+        projects.add(projectId);
+    }
+
+    synchronized void removeProject(UUID projectId) {
+        remove("project:" + projectId);
+        String authorKey = authorKeyByProject.remove(projectId);
+        if (authorKey != null) releaseAuthor(authorKey, projectId);
+    }
+
+    synchronized void putTranslator(UUID translatorId, String displayName) {
+        put("translator:" + translatorId, SuggestionType.TRANSLATOR, displayName, null, translatorId);
+    }
+
+    /** A renamed user: only matters if they are already indexed as a translator. */
+    synchronized void renameTranslator(UUID translatorId, String displayName) {
+        Integer id = entryIdsByKey.get("translator:" + translatorId);
+        if (id != null && !entries.get(id).text().equals(displayName)) putTranslator(translatorId, displayName);
+    }
+
+    synchronized void removeTranslator(UUID translatorId) {
+        remove("translator:" + translatorId);
+    }
+
+    private void releaseAuthor(String authorKey, UUID projectId) {
+        Set<UUID> projects = authorProjects.get(authorKey);
+        if (projects == null) return;
+        projects.remove(projectId);
+        if (projects.isEmpty()) {
+            authorProjects.remove(authorKey);
+            remove("author:" + authorKey);
+        }
+    }
+
+    private boolean put(String key, SuggestionType type, String text, String slug, UUID translatorId) {
+        remove(key);
+        String normalized = text != null ? normalize(text) : "";
+        if (normalized.isEmpty()) return false;
+        if (entries.size() >= maxEntries) {
+            complete = false;
+            return false;
+        }
+
+        Set<String> terms = wordStartSuffixes(normalized);
+        Set<String> grams = trigrams(normalized);
+        Entry entry = new Entry(nextId++, key, type, text, normalized, slug, translatorId, terms, grams);
+
+        entries.put(entry.id(), entry);
+        entryIdsByKey.put(key, entry.id());
+        for (String term : terms) {
+            prefixes.computeIfAbsent(term, t -> ConcurrentHashMap.newKeySet()).add(entry.id());
+            chars.addAndGet(term.length());
+        }
+        for (String gram : grams) {
+            trigrams.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(entry.id());
+        }
+        postings.addAndGet(terms.size() + grams.size());
+        chars.addAndGet(text.length());
+        return true;
+    }
+
+    private void remove(String key) {
+        Integer id = entryIdsByKey.remove(key);
+        if (id == null) return;
+        Entry entry = entries.remove(id);
+
+        for (String term : entry.terms()) {
+            removePosting(prefixes, term, id);
+            chars.addAndGet(-term.length());
+        }
+        for (String gram : entry.trigrams()) {
+            removePosting(trigrams, gram, id);
+        }
+        postings.addAndGet(-(entry.terms().size() + entry.trigrams().size()));
+        chars.addAndGet(-entry.text().length());
+    }
+
+    private static void removePosting(Map<String, Set<Integer>> postingsByTerm, String term, int id) {
+        postingsByTerm.computeIfPresent(term, (t, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    // --- Reads ---
+
+    /**
+     * Prefix matches first (entries starting with the query before ones with a later word starting with it,
+     * shorter before longer), then fuzzy matches by similarity.
+     */
+    List<AutocompleteSuggestion> suggest(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) return List.of();
+
+        List<Entry> prefixHits = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+        for (Set<Integer> ids : prefixes.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()) {
+            for (Integer id : ids) {
+                Entry entry = entries.get(id);
+                if (entry != null && seen.add(id)) prefixHits.add(entry);
+            }
+            if (prefixHits.size() >= MAX_PREFIX_CANDIDATES) break;
+        }
+        prefixHits.sort(Comparator
+                .comparing((Entry e) -> !e.normalized().startsWith(normalized))
+                .thenComparingInt(e -> e.normalized().length())
+                .thenComparing(Entry::normalized));
+
+        List<Entry> results = new ArrayList<>(prefixHits.subList(0, Math.min(limit, prefixHits.size())));
+        if (results.size() < limit && normalized.length() >= MIN_FUZZY_QUERY_LENGTH) {
+            for (Entry entry : fuzzy(normalized, seen)) {
+                if (results.size() >= limit) break;
+                results.add(entry);
+            }
+        }
+        return results.stream()
+                .map(e -> new AutocompleteSuggestion(e.type(), e.text(), e.slug(), e.translatorId()))
+                .toList();
+    }
+
+    private List<Entry> fuzzy(String normalized, Set<Integer> exclude) {
+        Set<String> queryGrams = trigrams(normalized);
+        Map<Integer, int[]> shared = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<Integer> ids = trigrams.get(gram);
+            if (ids == null) continue;
+            for (Integer id : ids) {
+                if (!exclude.contains(id)) shared.computeIfAbsent(id, k -> new int[1])[0]++;
+            }
+        }
+
+        record Scored(Entry entry, double similarity) {}
+        List<Scored> scored = new ArrayList<>();
+        shared.forEach((id, count) -> {
+            double similarity = (double) count[0] / queryGrams.size();
+            Entry entry = entries.get(id);
+            if (entry != null && similarity >= MIN_SIMILARITY) scored.add(new Scored(entry, similarity));
+        });
+        scored.sort(Comparator.comparingDouble(Scored::similarity).reversed()
+                .thenComparingInt(s -> s.entry().trigrams().size()));
+        return scored.stream().map(Scored::entry).toList();
+    }
+
+    // --- State ---
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long postingCount() {
+        return postings.get();
+    }
+
+    long estimatedBytes() {
+        return (long) entries.size() * ENTRY_BYTES
+                + postings.get() * POSTING_BYTES
+                + (long) (prefixes.size() + trigrams.size()) * TERM_BYTES
+                + chars.get() * 2;
+    }
+
+    // --- Text ---
+
+    static String normalize(String text) {
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    private static Set<String> wordStartSuffixes(String normalized) {
+        Set<String> suffixes = new HashSet<>();
+        suffixes.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            suffixes.add(normalized.substring(i + 1));
+        }
+        return suffixes;
+    }
+
+    // pg_trgm style: each word padded with two spaces in front and one behind
+    private static Set<String> trigrams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (String word : normalized.split(" ")) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,87 @@
+package com.platform.studiotranslator.service.search;
+
+import com.platform.studiotranslator.entity.ProjectEntity;
+import com.platform.studiotranslator.entity.TranslatorEntity;
+import com.platform.studiotranslator.entity.UserEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * JPA listener on {@link ProjectEntity}, {@link TranslatorEntity} and {@link UserEntity}: keeps the autocomplete
+ * index current, whichever service made the change. Applied after commit, so a rolled-back write never shows up
+ * as a suggestion.
+ */
+@Component
+@RequiredArgsConstructor
+public class AutocompleteIndexUpdater {
+
+    // Resolved lazily: listeners are created with the EntityManagerFactory, before the services exist
+    private final ObjectProvider<AutocompleteService> autocomplete;
+
+    @PostPersist
+    @PostUpdate
+    void onSaved(Object entity) {
+        switch (entity) {
+            case ProjectEntity project -> {
+                UUID id = project.getId();
+                String slug = project.getSlug();
+                String title = project.getTitle();
+                String author = project.getOriginalAuthor();
+                afterCommit(() -> autocomplete.getObject().onProjectSaved(id, slug, title, author));
+            }
+            case TranslatorEntity translator -> {
+                UUID id = translator.getId();
+                String displayName = translator.getUser().getDisplayName();
+                afterCommit(() -> autocomplete.getObject().onTranslatorSaved(id, displayName));
+            }
+            case UserEntity user -> {
+                UUID id = user.getId();
+                String displayName = user.getDisplayName();
+                afterCommit(() -> autocomplete.getObject().onUserRenamed(id, displayName));
+            }
+            default -> {
+            }
+        }
+    }
+
+    @PostRemove
+    void onRemoved(Object entity) {
+        switch (entity) {
+            case ProjectEntity project -> {
+                UUID id = project.getId();
+                afterCommit(() -> autocomplete.getObject().onProjectDeleted(id));
+            }
+            case TranslatorEntity translator -> {
+                UUID id = translator.getId();
+                afterCommit(() -> autocomplete.getObject().onTranslatorDeleted(id));
+            }
+            case UserEntity user -> {
+                UUID id = user.getId();
+                afterCommit(() -> autocomplete.getObject().onTranslatorDeleted(id));
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,260 @@
+package com.platform.studiotranslator.service.search;
+
+import com.platform.studiotranslator.config.schema.StartupSchema;
+import com.platform.studiotranslator.constant.SuggestionType;
+import com.platform.studiotranslator.dto.project.AutocompleteSuggestion;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Autocomplete for the catalog search box: project titles, original authors and translator names.
+ * <p>
+ * Answered from an {@link AutocompleteIndex} in memory, built in the background after startup and kept current
+ * by {@link AutocompleteIndexUpdater} as projects and translators change. Until it is built, or when it has hit
+ * its size limit, suggestions come from Postgres instead: pg_trgm GIN indexes on the same columns serve prefix,
+ * substring and typo-tolerant ({@code <%}, word similarity) matches. That query needs the extension's operators,
+ * so startup fails when pg_trgm cannot be set up (see {@link StartupSchema}).
+ * <p>
+ * The index is rebuilt from scratch every {@code rebuild-interval}, which also lets it recover once enough
+ * projects are deleted to fit again. Changes made during a build are replayed onto the new index before it is
+ * swapped in.
+ */
+@Slf4j
+@Service
+@DependsOn("entityManagerFactory")
+public class AutocompleteService {
+
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_LIMIT = 20;
+
+    private static final Map<String, String> TRIGRAM_INDEXES = Map.of(
+            "idx_project_title_trgm", "ON projects USING GIN (lower(title) gin_trgm_ops)",
+            "idx_project_author_trgm", "ON projects USING GIN (lower(original_author) gin_trgm_ops)",
+            "idx_user_display_name_trgm", "ON users USING GIN (lower(display_name) gin_trgm_ops)"
+    );
+
+    private static final String LOAD_PROJECTS =
+            "SELECT id, slug, title, original_author FROM projects WHERE deleted_at IS NULL";
+    private static final String LOAD_TRANSLATORS = """
+            SELECT u.id, u.display_name FROM translators t JOIN users u ON u.id = t.user_id
+            WHERE t.deleted_at IS NULL AND u.deleted_at IS NULL
+            """;
+
+    // Same ordering as the in-memory index: prefix matches first, then by similarity
+    private static final String SUGGEST = """
+            SELECT type, text, slug, translator_id FROM (
+                (SELECT 'PROJECT' AS type, p.title AS text, p.slug AS slug, CAST(NULL AS uuid) AS translator_id,
+                        lower(p.title) LIKE :prefix AS is_prefix, word_similarity(:query, lower(p.title)) AS score
+                 FROM projects p
+                 WHERE p.deleted_at IS NULL AND (lower(p.title) LIKE :contains OR :query <% lower(p.title))
+                 ORDER BY 5 DESC, 6 DESC LIMIT :limit)
+                UNION ALL
+                (SELECT 'AUTHOR', min(p.original_author), NULL, NULL,
+                        bool_or(lower(p.original_author) LIKE :prefix), max(word_similarity(:query, lower(p.original_author)))
+                 FROM projects p
+                 WHERE p.deleted_at IS NULL AND (lower(p.original_author) LIKE :contains OR :query <% lower(p.original_author))
+                 GROUP BY lower(p.original_author)
+                 ORDER BY 5 DESC, 6 DESC LIMIT :limit)
+                UNION ALL
+                (SELECT 'TRANSLATOR', u.display_name, NULL, u.id,
+                        lower(u.display_name) LIKE :prefix, word_similarity(:query, lower(u.display_name))
+                 FROM translators t JOIN users u ON u.id = t.user_id
+                 WHERE t.deleted_at IS NULL AND u.deleted_at IS NULL
+                   AND (lower(u.display_name) LIKE :contains OR :query <% lower(u.display_name))
+                 ORDER BY 5 DESC, 6 DESC LIMIT :limit)
+            ) suggestions
+            ORDER BY is_prefix DESC, score DESC, length(text)
+            LIMIT :limit
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final StartupSchema startupSchema;
+    private final int maxEntries;
+
+    private volatile AutocompleteIndex index;
+    private final Object lock = new Object();
+    private List<Consumer<AutocompleteIndex>> replay; // non-null while a build runs
+    private final AtomicBoolean building = new AtomicBoolean();
+
+    private final Timer memoryTimer;
+    private final Timer databaseTimer;
+
+    public AutocompleteService(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedJdbcTemplate,
+            StartupSchema startupSchema,
+            MeterRegistry meterRegistry,
+            @Value("${application.search.autocomplete.max-entries:200000}") int maxEntries
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.startupSchema = startupSchema;
+        this.maxEntries = maxEntries;
+
+        indexGauge(meterRegistry, "autocomplete.index.entries", "Entries in the in-memory autocomplete index",
+                AutocompleteIndex::size);
+        indexGauge(meterRegistry, "autocomplete.index.postings", "Prefix and trigram postings in the autocomplete index",
+                AutocompleteIndex::postingCount);
+        indexGauge(meterRegistry, "autocomplete.index.estimated.bytes", "Estimated heap used by the autocomplete index",
+                AutocompleteIndex::estimatedBytes);
+        indexGauge(meterRegistry, "autocomplete.index.serving", "1 while suggestions are served from memory, 0 on the database fallback",
+                current -> current.isComplete() ? 1 : 0);
+        Gauge.builder("autocomplete.index.max.entries", () -> maxEntries)
+                .description("Configured limit on autocomplete index entries")
+                .register(meterRegistry);
+        this.memoryTimer = requestTimer(meterRegistry, "memory");
+        this.databaseTimer = requestTimer(meterRegistry, "database");
+    }
+
+    // Without pg_trgm the fallback query does not parse (no <% / word_similarity), so this is not optional
+    @PostConstruct
+    void createTrigramIndexes() {
+        startupSchema.ensureExtension("pg_trgm");
+        TRIGRAM_INDEXES.forEach((name, definition) -> startupSchema.ensureIndex(name, false, definition));
+    }
+
+    public List<AutocompleteSuggestion> suggest(String query, int limit) {
+        String text = query != null ? query.strip() : "";
+        if (text.length() < MIN_QUERY_LENGTH) return List.of();
+        int size = Math.clamp(limit, 1, MAX_LIMIT);
+
+        AutocompleteIndex current = index;
+        if (current != null && current.isComplete()) {
+            return memoryTimer.record(() -> current.suggest(text, size));
+        }
+        return databaseTimer.record(() -> suggestFromDatabase(text, size));
+    }
+
+    // --- Changes (after commit, from AutocompleteIndexUpdater) ---
+
+    public void onProjectSaved(UUID projectId, String slug, String title, String originalAuthor) {
+        apply(index -> index.putProject(projectId, slug, title, originalAuthor));
+    }
+
+    public void onProjectDeleted(UUID projectId) {
+        apply(index -> index.removeProject(projectId));
+    }
+
+    public void onTranslatorSaved(UUID translatorId, String displayName) {
+        apply(index -> index.putTranslator(translatorId, displayName));
+    }
+
+    public void onUserRenamed(UUID userId, String displayName) {
+        apply(index -> index.renameTranslator(userId, displayName));
+    }
+
+    public void onTranslatorDeleted(UUID translatorId) {
+        apply(index -> index.removeTranslator(translatorId));
+    }
+
+    private void apply(Consumer<AutocompleteIndex> change) {
+        AutocompleteIndex current;
+        synchronized (lock) {
+            if (replay != null) replay.add(change);
+            current = index;
+        }
+        if (current != null) change.accept(current);
+    }
+
+    // --- Builds ---
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread.ofVirtual().name("autocomplete-index-build").start(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${application.search.autocomplete.rebuild-interval:21600000}",
+            initialDelayString = "${application.search.autocomplete.rebuild-interval:21600000}")
+    public void rebuild() {
+        if (!building.compareAndSet(false, true)) return;
+        synchronized (lock) {
+            replay = new ArrayList<>();
+        }
+        try {
+            long start = System.nanoTime();
+            AutocompleteIndex fresh = new AutocompleteIndex(maxEntries);
+            jdbcTemplate.query(LOAD_PROJECTS, rs -> {
+                fresh.putProject(rs.getObject("id", UUID.class), rs.getString("slug"),
+                        rs.getString("title"), rs.getString("original_author"));
+            });
+            jdbcTemplate.query(LOAD_TRANSLATORS, rs -> {
+                fresh.putTranslator(rs.getObject("id", UUID.class), rs.getString("display_name"));
+            });
+
+            synchronized (lock) {
+                replay.forEach(change -> change.accept(fresh));
+                index = fresh;
+            }
+            log.info("Autocomplete index built: {} entries, ~{} KB in {} ms{}", fresh.size(), fresh.estimatedBytes() / 1024,
+                    (System.nanoTime() - start) / 1_000_000, fresh.isComplete() ? "" : " (size limit reached, serving from the database)");
+        } catch (DataAccessException e) {
+            log.warn("Building the autocomplete index failed, keeping the current one: {}", e.getMessage());
+        } finally {
+            synchronized (lock) {
+                replay = null;
+            }
+            building.set(false);
+        }
+    }
+
+    private List<AutocompleteSuggestion> suggestFromDatabase(String text, int limit) {
+        String query = text.toLowerCase(Locale.ROOT);
+        String escaped = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("prefix", escaped + "%")
+                .addValue("contains", "%" + escaped + "%")
+                .addValue("limit", limit);
+        try {
+            return namedJdbcTemplate.query(SUGGEST, params, (rs, i) -> new AutocompleteSuggestion(
+                    SuggestionType.valueOf(rs.getString("type")),
+                    rs.getString("text"),
+                    rs.getString("slug"),
+                    rs.getObject("translator_id", UUID.class)
+            ));
+        } catch (DataAccessException e) {
+            log.warn("Autocomplete fallback query failed: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void indexGauge(MeterRegistry meterRegistry, String name, String description, ToDoubleFunction<AutocompleteIndex> value) {
+        Gauge.builder(name, this, service -> {
+                    AutocompleteIndex current = service.index;
+                    return current != null ? value.applyAsDouble(current) : 0;
+                })
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private static Timer requestTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("autocomplete.requests")
+                .description("Autocomplete lookups, by where they were answered from")
+                .tag("source", source)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
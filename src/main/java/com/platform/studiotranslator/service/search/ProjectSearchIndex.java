@@ -0,0 +1,125 @@
+package com.platform.studiotranslator.service.search;
+
+import com.platform.studiotranslator.config.schema.StartupSchema;
+import com.platform.studiotranslator.constant.Language;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Postgres full-text search over the project catalog.
+ * <p>
+ * {@code projects.search_vector} is a stored generated column, so Postgres keeps it in sync on every write:
+ * title (weight A) and synopsis (C) are parsed with the text-search configuration of the target language,
+ * the original author (B) with that of the original language. A GIN index on it serves {@code @@} matches.
+ * Hibernate does not know about either (it cannot express generated columns or GIN), so they are created here
+ * through {@link StartupSchema}, after Hibernate's schema update. Changing the expression (e.g. a new
+ * {@link Language}) requires dropping the column once.
+ * <p>
+ * Queries are parsed with {@code websearch_to_tsquery} under every configuration in use and OR-ed, so one
+ * constant query matches rows of any language (a per-row configuration would defeat the index).
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class ProjectSearchIndex {
+
+    // Private-use code points around matches: the text can be HTML-escaped before they become <mark> tags
+    static final char HIGHLIGHT_START = '\uE000';
+    static final char HIGHLIGHT_END = '\uE001';
+
+    private static final String TITLE_HEADLINE_OPTIONS =
+            "StartSel=" + HIGHLIGHT_START + ", StopSel=" + HIGHLIGHT_END + ", HighlightAll=true";
+    private static final String SNIPPET_HEADLINE_OPTIONS =
+            "StartSel=" + HIGHLIGHT_START + ", StopSel=" + HIGHLIGHT_END
+                    + ", MaxWords=35, MinWords=15, MaxFragments=2, FragmentDelimiter=\" … \"";
+
+    private static final String SEARCH_VECTOR = """
+            setweight(to_tsvector(%1$s, coalesce(title, '')), 'A')
+            || setweight(to_tsvector(%2$s, coalesce(original_author, '')), 'B')
+            || setweight(to_tsvector(%1$s, coalesce(synopsis, '')), 'C')"""
+            .formatted(configFor("target_language"), configFor("original_language"));
+
+    private static final String SEARCH_VECTOR_COLUMN = "tsvector GENERATED ALWAYS AS (" + SEARCH_VECTOR + ") STORED";
+
+    // The query is a constant for the planner (so the GIN index applies) and ranks are normalized by document
+    // length (1), so a long synopsis does not outrank a title match. Only the page is headlined: ts_headline
+    // re-parses the text and is by far the most expensive part.
+    private static final String SEARCH = """
+            WITH page AS (
+                SELECT p.id, ts_rank(p.search_vector, %1$s, 1) AS rank
+                FROM projects p
+                WHERE p.deleted_at IS NULL
+                  AND p.search_vector @@ %1$s
+                  AND (CAST(:language AS varchar) IS NULL OR p.target_language = :language)
+                  AND (CAST(:afterRank AS real) IS NULL
+                       OR (ts_rank(p.search_vector, %1$s, 1), p.id) < (CAST(:afterRank AS real), CAST(:afterId AS uuid)))
+                ORDER BY rank DESC, p.id DESC
+                LIMIT :limit
+            )
+            SELECT page.id, page.rank,
+                   ts_headline(%2$s, p.title, %1$s, :titleOptions) AS title_highlight,
+                   ts_headline(%2$s, coalesce(p.synopsis, ''), %1$s, :snippetOptions) AS snippet
+            FROM page
+            JOIN projects p ON p.id = page.id
+            ORDER BY page.rank DESC, page.id DESC
+            """.formatted("(" + anyConfigQuery(":query") + ")", configFor("p.target_language"));
+
+    /** Highlights still carry the {@link #HIGHLIGHT_START} / {@link #HIGHLIGHT_END} markers. */
+    public record Hit(UUID id, float rank, String titleHighlight, String snippet) {}
+
+    private final StartupSchema startupSchema;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @PostConstruct
+    void createSchema() {
+        startupSchema.ensureColumn("projects", "search_vector", SEARCH_VECTOR_COLUMN);
+        startupSchema.ensureIndex("idx_project_search_vector", false, "ON projects USING GIN (search_vector)");
+    }
+
+    /**
+     * Best matches first; {@code afterRank}/{@code afterId} (both or neither) are the last hit of the previous page.
+     */
+    public List<Hit> search(String query, Language targetLanguage, Float afterRank, UUID afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                // Typed, so nulls need no parameter metadata round trip
+                .addValue("language", targetLanguage != null ? targetLanguage.name() : null, Types.VARCHAR)
+                .addValue("afterRank", afterRank, Types.REAL)
+                .addValue("afterId", afterId, Types.OTHER)
+                .addValue("limit", limit)
+                .addValue("titleOptions", TITLE_HEADLINE_OPTIONS)
+                .addValue("snippetOptions", SNIPPET_HEADLINE_OPTIONS);
+
+        return namedJdbcTemplate.query(SEARCH, params, (rs, i) -> new Hit(
+                rs.getObject("id", UUID.class),
+                rs.getFloat("rank"),
+                rs.getString("title_highlight"),
+                rs.getString("snippet")
+        ));
+    }
+
+    // CASE over the language column; the regconfig literals are constants, so the generated column stays immutable
+    private static String configFor(String languageColumn) {
+        return Arrays.stream(Language.values())
+                .map(language -> "WHEN '%s' THEN '%s'::regconfig".formatted(language.name(), language.getTextSearchConfig()))
+                .collect(Collectors.joining(" ", "CASE " + languageColumn + " ", " ELSE 'simple'::regconfig END"));
+    }
+
+    private static String anyConfigQuery(String textColumn) {
+        return Arrays.stream(Language.values())
+                .map(Language::getTextSearchConfig)
+                .distinct()
+                .map(config -> "websearch_to_tsquery('%s'::regconfig, %s)".formatted(config, textColumn))
+                .collect(Collectors.joining(" || "));
+    }
+}
@@ -0,0 +1,36 @@
+package com.platform.studiotranslator.service.search;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position after the last hit of a search page: its rank and id (the tie-breaker). Encoded as an opaque,
+ * URL-safe string; the rank is carried bit for bit so the seek condition compares exactly what Postgres returned.
+ */
+public record SearchCursor(float rank, UUID id) {
+
+    private static final int BYTES = Float.BYTES + 2 * Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES)
+                .putFloat(rank)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static SearchCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            bytes = null;
+        }
+        if (bytes == null || bytes.length != BYTES) {
+            throw new IllegalArgumentException("Invalid search cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new SearchCursor(buffer.getFloat(), new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
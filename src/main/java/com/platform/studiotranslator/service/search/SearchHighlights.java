@@ -0,0 +1,20 @@
+package com.platform.studiotranslator.service.search;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * Turns {@code ts_headline} output into safe HTML: the (user-written) text is escaped first, then the match
+ * markers become {@code <mark>} tags.
+ */
+public final class SearchHighlights {
+
+    private SearchHighlights() {
+    }
+
+    public static String toHtml(String highlighted) {
+        if (highlighted == null) return null;
+        return HtmlUtils.htmlEscape(highlighted)
+                .replace(String.valueOf(ProjectSearchIndex.HIGHLIGHT_START), "<mark>")
+                .replace(String.valueOf(ProjectSearchIndex.HIGHLIGHT_END), "</mark>");
+    }
+}
@@ -0,0 +1,209 @@
+package com.platform.studiotranslator.service.sync;
+
+import com.platform.studiotranslator.exception.DocumentTooLargeException;
+import com.platform.studiotranslator.service.content.ChapterContentStorage;
+import com.platform.studiotranslator.service.googledoc.GoogleDocHtmlNormalizer;
+import com.platform.studiotranslator.service.googledoc.GoogleWorkspaceService;
+import com.platform.studiotranslator.util.HashUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pulls a Google Doc export through decode → normalize → hash → gzip in a single streaming pass.
+ * <p>
+ * The raw export is never held in memory: bytes are decoded in 8 KB chunks, the normalizer writes straight
+ * into a tee that keeps the (much smaller) normalized HTML, feeds its UTF-8 bytes to SHA-256 and, when content
+ * is stored compressed, to a gzip stream. Exports larger than {@code max-export-bytes} are aborted mid-download.
+ * Word counting needs the whole normalized document and runs on the kept copy, only when the content changed.
+ * <p>
+ * Heap use per sync is reported two ways: {@code chapter.export.allocated} measures the bytes the thread
+ * allocated during the export, but the JVM only tracks that for platform threads (on JDK 21 it reports nothing
+ * for virtual ones, which run most syncs); {@code chapter.export.buffered.estimated} is computed from the
+ * buffer sizes and is recorded for every sync.
+ */
+@Component
+class ChapterExportPipeline {
+
+    private static final int BUFFER_SIZE = 8192;
+    // Decoder, normalizer, encoder and gzip buffers
+    private static final long FIXED_BUFFER_BYTES = 4L * BUFFER_SIZE;
+
+    /**
+     * @param html        normalized HTML (kept for word counting)
+     * @param contentHash SHA-256 of {@code html} in UTF-8, same value as {@link HashUtils#sha256Hex(String)}
+     * @param content     column values ready to store (already gzipped in compressed mode)
+     */
+    record ExportedChapter(String html, String contentHash, ChapterContentStorage.Encoded content) {}
+
+    private final GoogleWorkspaceService googleService;
+    private final GoogleDocHtmlNormalizer htmlNormalizer;
+    private final ChapterContentStorage contentStorage;
+    private final long maxExportBytes;
+
+    private final DistributionSummary downloadedSummary;
+    private final DistributionSummary bufferedSummary;
+    private final DistributionSummary allocatedSummary;
+    private final Counter tooLargeCounter;
+
+    ChapterExportPipeline(
+            GoogleWorkspaceService googleService,
+            GoogleDocHtmlNormalizer htmlNormalizer,
+            ChapterContentStorage contentStorage,
+            MeterRegistry meterRegistry,
+            @Value("${application.chapter.sync.max-export-bytes:10485760}") long maxExportBytes
+    ) {
+        this.googleService = googleService;
+        this.htmlNormalizer = htmlNormalizer;
+        this.contentStorage = contentStorage;
+        this.maxExportBytes = maxExportBytes;
+
+        this.downloadedSummary = DistributionSummary.builder("chapter.export.downloaded")
+                .description("Size of the raw Google Doc export per sync")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.bufferedSummary = DistributionSummary.builder("chapter.export.buffered.estimated")
+                .description("Estimated upper bound of heap held by the export pipeline per sync (normalized HTML, gzip, stream buffers)")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.allocatedSummary = DistributionSummary.builder("chapter.export.allocated")
+                .description("Bytes allocated by the exporting thread per sync, download included (platform threads only)")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.tooLargeCounter = Counter.builder("chapter.export.too.large")
+                .description("Exports aborted for exceeding max-export-bytes")
+                .register(meterRegistry);
+    }
+
+    ExportedChapter export(String googleDocId) {
+        long allocatedBefore = allocatedBytes();
+        try {
+            ExportedChapter exported = googleService.exportDocument(googleDocId, maxExportBytes, this::process);
+            long allocatedAfter = allocatedBytes();
+            if (allocatedBefore >= 0 && allocatedAfter >= 0) {
+                allocatedSummary.record(allocatedAfter - allocatedBefore);
+            }
+            return exported;
+        } catch (DocumentTooLargeException e) {
+            tooLargeCounter.increment();
+            throw e;
+        }
+    }
+
+    // -1 where the JVM does not track it, which includes every virtual thread on JDK 21
+    private static long allocatedBytes() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                ? threads.getCurrentThreadAllocatedBytes()
+                : -1;
+    }
+
+    private ExportedChapter process(InputStream export) throws IOException {
+        CountingInputStream counted = new CountingInputStream(export);
+        boolean compressed = contentStorage.isCompressed();
+
+        MessageDigest digest = HashUtils.sha256();
+        ByteArrayOutputStream gzipBytes = compressed ? new ByteArrayOutputStream(BUFFER_SIZE) : null;
+        OutputStream storage = compressed ? new GZIPOutputStream(gzipBytes, BUFFER_SIZE) : OutputStream.nullOutputStream();
+        StringBuilder html = new StringBuilder(BUFFER_SIZE);
+
+        try (Writer encoded = new OutputStreamWriter(new DigestOutputStream(storage, digest), StandardCharsets.UTF_8)) {
+            Writer tee = new TeeWriter(html, encoded);
+            htmlNormalizer.normalize(new InputStreamReader(counted, StandardCharsets.UTF_8), tee);
+        }
+
+        String normalized = html.toString();
+        ChapterContentStorage.Encoded content = compressed
+                ? new ChapterContentStorage.Encoded(null, gzipBytes.toByteArray())
+                : new ChapterContentStorage.Encoded(normalized, null);
+
+        downloadedSummary.record(counted.count);
+        // Builder + its String copy at two bytes per char, plus the gzip buffer and its copy
+        bufferedSummary.record(FIXED_BUFFER_BYTES + 2L * (html.capacity() + normalized.length())
+                + (compressed ? 2L * gzipBytes.size() : 0));
+
+        return new ExportedChapter(normalized, HexFormat.of().formatHex(digest.digest()), content);
+    }
+
+    /**
+     * Copies everything the normalizer writes into the kept HTML and the hashing/compressing byte stream.
+     */
+    private static final class TeeWriter extends Writer {
+        private final StringBuilder copy;
+        private final Writer out;
+
+        TeeWriter(StringBuilder copy, Writer out) {
+            this.copy = copy;
+            this.out = out;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            copy.append((char) c);
+            out.write(c);
+        }
+
+        @Override
+        public void write(char[] buffer, int off, int len) throws IOException {
+            copy.append(buffer, off, len);
+            out.write(buffer, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            copy.append(str, off, off + len);
+            out.write(str, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.platform.studiotranslator.service.sync;
+
+import com.platform.studiotranslator.service.cache.ChapterPayloadCache;
+import com.platform.studiotranslator.service.content.ChapterContentStorage;
+import com.platform.studiotranslator.service.revision.ChapterRevisionStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a batch of synced chapters with a few JDBC batch statements in one transaction,
+ * instead of one entity load + merge per chapter.
+ * <p>
+ * Content updates bump {@code version}/{@code updated_at} like a JPA save would (so ETags and caches move on);
+ * revision-only updates don't. Neither changes a chapter's status: a project resync refreshes published
+ * chapters and drafts alike, and a draft stays a draft. Draft refreshes (from the Drive change feed) never
+ * touch a chapter that got published in the meantime.
+ * <p>
+ * New content of published chapters is also appended to the revision history, in the same transaction.
+ */
+@Component
+@RequiredArgsConstructor
+class ChapterSyncBatchWriter {
+
+    private static final String PUBLISHED_SQL = """
+            UPDATE chapters
+            SET content = ?, content_gzip = ?, word_count = ?, content_hash = ?,
+                drive_version = ?, drive_modified_at = ?, last_synced_at = ?, updated_at = ?,
+                version = version + 1
+            WHERE id = ? AND deleted_at IS NULL AND status = 'PUBLISHED'
+            """;
+    private static final String DRAFT_SQL = """
+            UPDATE chapters
+            SET content = ?, content_gzip = ?, word_count = ?, content_hash = ?,
+                drive_version = ?, drive_modified_at = ?, last_synced_at = ?, updated_at = ?,
+                version = version + 1
+            WHERE id = ? AND deleted_at IS NULL AND status <> 'PUBLISHED'
+            """;
+    private static final String REVISION_SQL =
+            "UPDATE chapters SET drive_version = ?, drive_modified_at = ?, last_synced_at = ? WHERE id = ? AND deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChapterContentStorage contentStorage;
+    private final ChapterRevisionStore revisionStore;
+    private final ChapterPayloadCache payloadCache;
+
+    /**
+     * Each chapter matches exactly one of the two content statements, by its status at the time of the write.
+     */
+    void write(List<FetchedChapter> batch) {
+        write(batch, true);
+    }
+
+    void writeDrafts(List<FetchedChapter> batch) {
+        write(batch, false);
+    }
+
+    private void write(List<FetchedChapter> batch, boolean includePublished) {
+        if (batch.isEmpty()) return;
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<FetchedChapter> contentChanged = new ArrayList<>();
+        List<Object[]> contents = new ArrayList<>();
+        List<Object[]> revisions = new ArrayList<>();
+
+        for (FetchedChapter chapter : batch) {
+            Timestamp driveModifiedAt = chapter.revision().modifiedTime() != null
+                    ? Timestamp.from(chapter.revision().modifiedTime())
+                    : null;
+
+            if (chapter.contentChanged()) {
+                ChapterContentStorage.Encoded encoded = chapter.content();
+                contentChanged.add(chapter);
+                contents.add(new Object[]{
+                        // Typed so NULLs bind correctly for TEXT / bytea
+                        new SqlParameterValue(Types.VARCHAR, encoded.content()),
+                        new SqlParameterValue(Types.BINARY, encoded.contentGzip()),
+                        chapter.wordCount(), chapter.contentHash(),
+                        chapter.revision().version(), driveModifiedAt, now, now, chapter.chapterId()
+                });
+            } else if (chapter.revisionChanged()) {
+                revisions.add(new Object[]{chapter.revision().version(), driveModifiedAt, now, chapter.chapterId()});
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!contents.isEmpty()) {
+                if (includePublished) {
+                    recordRevisions(contentChanged, jdbcTemplate.batchUpdate(PUBLISHED_SQL, contents));
+                }
+                jdbcTemplate.batchUpdate(DRAFT_SQL, contents);
+            }
+            if (!revisions.isEmpty()) jdbcTemplate.batchUpdate(REVISION_SQL, revisions);
+        });
+
+        for (FetchedChapter chapter : batch) {
+            if (chapter.contentChanged()) payloadCache.invalidate(chapter.chapterId());
+        }
+    }
+
+    // After the UPDATE, so the chapter row locks are held; deleted chapters and drafts (0 rows updated) get no revision
+    private void recordRevisions(List<FetchedChapter> chapters, int[] updated) {
+        for (int i = 0; i < chapters.size(); i++) {
+            if (updated[i] == 0) continue;
+            FetchedChapter chapter = chapters.get(i);
+            revisionStore.record(chapter.chapterId(), contentStorage.decode(chapter.content()),
+                    chapter.contentHash(), chapter.wordCount());
+        }
+    }
+}
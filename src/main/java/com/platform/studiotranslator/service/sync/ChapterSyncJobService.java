@@ -0,0 +1,370 @@
+package com.platform.studiotranslator.service.sync;
+
+import com.platform.studiotranslator.config.schema.StartupSchema;
+import com.platform.studiotranslator.constant.Role;
+import com.platform.studiotranslator.constant.SyncJobStatus;
+import com.platform.studiotranslator.dto.chapter.SyncJobResponse;
+import com.platform.studiotranslator.entity.SyncJobEntity;
+import com.platform.studiotranslator.entity.UserEntity;
+import com.platform.studiotranslator.exception.TooManyRequestsException;
+import com.platform.studiotranslator.repository.SyncJobRepository;
+import com.platform.studiotranslator.service.ChapterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs "sync &amp; publish" as persisted background jobs.
+ * <p>
+ * The request only validates ownership and stores a {@code QUEUED} row; each job then runs on its own
+ * virtual thread. Two semaphores bound the work: one per translator (so a single account cannot hog the
+ * Drive quota) and one global (the worker pool size). Waiting for a permit is cheap on a virtual thread,
+ * so the semaphores double as the queue.
+ * <p>
+ * A partial unique index allows one unfinished job per chapter, so concurrent clicks cannot both enqueue;
+ * startup fails if it cannot be created. A worker claims its job with a conditional UPDATE that also sets a
+ * lease, so when several instances resume the same rows only one of them runs each job. Jobs still
+ * {@code QUEUED} on startup, or {@code RUNNING} past their lease (the owning instance crashed), are picked up
+ * again; jobs cut off by a shutdown go back to {@code QUEUED}.
+ */
+@Slf4j
+@Service
+public class ChapterSyncJobService {
+
+    private static final Set<SyncJobStatus> ACTIVE = EnumSet.of(SyncJobStatus.QUEUED, SyncJobStatus.RUNNING);
+    private static final int MAX_ERROR_LENGTH = 2000;
+    private static final long SHUTDOWN_GRACE_SECONDS = 10;
+
+    private static final String ACTIVE_JOB_INDEX =
+            "ON sync_jobs (chapter_id) WHERE status IN ('QUEUED', 'RUNNING') AND deleted_at IS NULL";
+
+    // Queued, or running under a lease that ran out (NULL: rows from before leases existed)
+    private static final String CLAIM_SQL = """
+            UPDATE sync_jobs SET status = 'RUNNING', started_at = ?, lease_expires_at = ?, version = version + 1
+            WHERE id = ? AND deleted_at IS NULL
+              AND (status = 'QUEUED' OR (status = 'RUNNING' AND (lease_expires_at IS NULL OR lease_expires_at < ?)))
+            """;
+    private static final String RELEASE_SQL = """
+            UPDATE sync_jobs SET status = 'QUEUED', lease_expires_at = NULL, version = version + 1
+            WHERE id = ? AND status = 'RUNNING' AND deleted_at IS NULL
+            """;
+
+    /** Jobs waiting for or holding one of a translator's permits; the entry goes when the last one finishes. */
+    private static final class TranslatorPermits {
+        final Semaphore semaphore;
+        int users; // guarded by the map's compute
+
+        TranslatorPermits(int permits) {
+            this.semaphore = new Semaphore(permits, true);
+        }
+    }
+
+    private final SyncJobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StartupSchema startupSchema;
+    private final ChapterService chapterService;
+    private final ChapterSynchronizer synchronizer;
+
+    private final int maxQueued;
+    private final int maxPerTranslator;
+    private final Duration lease;
+    private final Semaphore workerPermits;
+    private final Map<UUID, TranslatorPermits> translatorPermits = new ConcurrentHashMap<>();
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet(); // started on this instance, not finished
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("chapter-sync-", 0).factory());
+    private volatile boolean stopping;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Timer runTimer;
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+
+    public ChapterSyncJobService(
+            SyncJobRepository jobRepository,
+            JdbcTemplate jdbcTemplate,
+            StartupSchema startupSchema,
+            ChapterService chapterService,
+            ChapterSynchronizer synchronizer,
+            MeterRegistry meterRegistry,
+            @Value("${application.chapter.sync.max-workers:8}") int maxWorkers,
+            @Value("${application.chapter.sync.max-per-translator:2}") int maxPerTranslator,
+            @Value("${application.chapter.sync.max-queued:1000}") int maxQueued,
+            @Value("${application.chapter.sync.lease:900000}") long leaseMillis
+    ) {
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.startupSchema = startupSchema;
+        this.chapterService = chapterService;
+        this.synchronizer = synchronizer;
+        this.workerPermits = new Semaphore(maxWorkers, true);
+        this.maxPerTranslator = maxPerTranslator;
+        this.maxQueued = maxQueued;
+        this.lease = Duration.ofMillis(leaseMillis);
+
+        Gauge.builder("chapter.sync.queue.depth", queued, AtomicInteger::get)
+                .description("Sync jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("chapter.sync.running", running, AtomicInteger::get)
+                .description("Sync jobs currently running")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("chapter.sync.wait")
+                .description("Time from enqueue until a worker picked the job up")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("chapter.sync.duration")
+                .description("Time spent running a sync job (Drive export + publish)")
+                .register(meterRegistry);
+        this.succeededCounter = Counter.builder("chapter.sync.jobs")
+                .tag("outcome", "succeeded")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chapter.sync.jobs")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    // The one-active-job-per-chapter guarantee rests on this index: no index, no start (e.g. duplicate active
+    // jobs left from before it existed, to be resolved by hand)
+    @PostConstruct
+    void createActiveJobIndex() {
+        startupSchema.ensureIndex("uk_sync_job_active_chapter", true, ACTIVE_JOB_INDEX);
+    }
+
+    public SyncJobResponse enqueue(UUID chapterId, UserEntity user) {
+        chapterService.validateCanSync(chapterId, user);
+
+        // Repeated clicks while a sync is pending just return the pending job
+        var active = jobRepository.findFirstByChapterIdAndStatusIn(chapterId, ACTIVE);
+        if (active.isPresent()) {
+            return toResponse(active.get());
+        }
+
+        if (!reserveQueueSlot()) {
+            throw new TooManyRequestsException("Sync queue is full, please retry shortly");
+        }
+
+        SyncJobEntity job;
+        try {
+            job = jobRepository.save(SyncJobEntity.builder()
+                    .chapterId(chapterId)
+                    .requestedById(user.getId())
+                    .status(SyncJobStatus.QUEUED)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request enqueued the same chapter first
+            queued.decrementAndGet();
+            return jobRepository.findFirstByChapterIdAndStatusIn(chapterId, ACTIVE)
+                    .map(ChapterSyncJobService::toResponse)
+                    .orElseThrow(() -> e);
+        } catch (RuntimeException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+
+        start(job);
+        return toResponse(job);
+    }
+
+    private boolean reserveQueueSlot() {
+        int current;
+        do {
+            current = queued.get();
+            if (current >= maxQueued) return false;
+        } while (!queued.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public SyncJobResponse getJob(UUID jobId, UserEntity user) {
+        SyncJobEntity job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Sync job not found"));
+
+        if (!job.getRequestedById().equals(user.getId()) && user.getRole() != Role.ADMIN) {
+            throw new SecurityException("You do not own this sync job");
+        }
+        return toResponse(job);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        // RUNNING rows under a live lease belong to another instance: the claim skips them
+        resume(jobRepository.findByStatusInOrderByCreatedAtAsc(ACTIVE), "interrupted by the last shutdown");
+    }
+
+    @Scheduled(fixedDelayString = "${application.chapter.sync.lease-check-interval:60000}",
+            initialDelayString = "${application.chapter.sync.lease-check-interval:60000}")
+    public void resumeExpiredLeases() {
+        if (stopping) return;
+        resume(jobRepository.findByStatusAndLeaseExpiresAtBeforeOrderByCreatedAtAsc(SyncJobStatus.RUNNING, Instant.now()),
+                "left running by another instance");
+    }
+
+    private void resume(List<SyncJobEntity> jobs, String reason) {
+        int resumed = 0;
+        for (SyncJobEntity job : jobs) {
+            if (inFlight.contains(job.getId())) continue;
+            queued.incrementAndGet();
+            start(job);
+            resumed++;
+        }
+        if (resumed > 0) log.info("Resuming {} sync jobs {}", resumed, reason);
+    }
+
+    /**
+     * Lets running jobs finish for a grace period; waiting jobs are not started. Whatever is cut off is left
+     * QUEUED in the database and resumed on the next start.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopping = true;
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+            executor.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    // The queue slot is already counted
+    private void start(SyncJobEntity job) {
+        if (!inFlight.add(job.getId())) {
+            queued.decrementAndGet();
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    run(job.getId(), job.getRequestedById(), job.getCreatedAt());
+                } finally {
+                    inFlight.remove(job.getId());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down: the job stays QUEUED for the next start
+            inFlight.remove(job.getId());
+            queued.decrementAndGet();
+        }
+    }
+
+    private void run(UUID jobId, UUID translatorId, Instant enqueuedAt) {
+        TranslatorPermits translator = translatorPermits.compute(translatorId, (id, permits) -> {
+            if (permits == null) permits = new TranslatorPermits(maxPerTranslator);
+            permits.users++;
+            return permits;
+        });
+        boolean started = false;
+        try {
+            translator.semaphore.acquire();
+            try {
+                workerPermits.acquire();
+                try {
+                    queued.decrementAndGet();
+                    started = true;
+                    running.incrementAndGet();
+                    if (stopping) return;
+                    if (enqueuedAt != null) {
+                        waitTimer.record(Duration.between(enqueuedAt, Instant.now()));
+                    }
+                    runTimer.record(() -> execute(jobId));
+                } finally {
+                    running.decrementAndGet();
+                    workerPermits.release();
+                }
+            } finally {
+                translator.semaphore.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!started) queued.decrementAndGet();
+            translatorPermits.computeIfPresent(translatorId, (id, permits) -> --permits.users == 0 ? null : permits);
+        }
+    }
+
+    private void execute(UUID jobId) {
+        if (!claim(jobId)) {
+            log.debug("Sync job {} is finished or owned by another instance, skipping", jobId);
+            return;
+        }
+        SyncJobEntity job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) return;
+
+        try {
+            job.setOutcome(synchronizer.sync(job.getChapterId()));
+            job.setStatus(SyncJobStatus.SUCCEEDED);
+            job.setError(null);
+            succeededCounter.increment();
+        } catch (Exception ex) {
+            if (stopping || Thread.currentThread().isInterrupted()) {
+                // Cut off by the shutdown, not a real failure: handed back for the next start to resume
+                jdbcTemplate.update(RELEASE_SQL, jobId);
+                log.info("Sync job {} interrupted by shutdown, will resume on restart", jobId);
+                return;
+            }
+            log.warn("Sync job {} for chapter {} failed: {}", jobId, job.getChapterId(), ex.getMessage());
+            job.setStatus(SyncJobStatus.FAILED);
+            job.setError(truncate(ex.getMessage()));
+            failedCounter.increment();
+        }
+
+        job.setFinishedAt(Instant.now());
+        job.setLeaseExpiresAt(null);
+        try {
+            jobRepository.save(job);
+        } catch (OptimisticLockingFailureException e) {
+            // Ran past its lease and another instance took the job over: that run records the result
+            log.warn("Sync job {} was taken over by another instance after its lease ran out", jobId);
+        }
+    }
+
+    private boolean claim(UUID jobId) {
+        Instant now = Instant.now();
+        return jdbcTemplate.update(CLAIM_SQL, Timestamp.from(now), Timestamp.from(now.plus(lease)), jobId,
+                Timestamp.from(now)) == 1;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) return "Sync failed";
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static SyncJobResponse toResponse(SyncJobEntity job) {
+        return new SyncJobResponse(
+                job.getId(),
+                job.getChapterId(),
+                job.getStatus(),
+                job.getOutcome(),
+                job.getError(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,98 @@
+package com.platform.studiotranslator.service.sync;
+
+import com.platform.studiotranslator.constant.ChapterStatus;
+import com.platform.studiotranslator.constant.SyncOutcome;
+import com.platform.studiotranslator.projection.ChapterSyncState;
+import com.platform.studiotranslator.service.ChapterService;
+import com.platform.studiotranslator.service.googledoc.DocumentRevision;
+import com.platform.studiotranslator.service.googledoc.GoogleWorkspaceService;
+import com.platform.studiotranslator.util.WordCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Pulls a chapter from its Google Doc and publishes it.
+ * <p>
+ * Deliberately not transactional: the Drive export can take seconds, so it runs without holding
+ * a connection, and only {@link ChapterService#publishSyncedContent} opens a (short) transaction.
+ * <p>
+ * Unchanged docs are skipped in two steps: a metadata-only {@code files.get} first (same Drive
+ * version = no export at all), then a hash of the normalized export (same HTML = no content write,
+ * no version bump, no cache invalidation).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChapterSynchronizer {
+
+    private final ChapterService chapterService;
+    private final GoogleWorkspaceService googleService;
+    private final ChapterExportPipeline exportPipeline;
+
+    public SyncOutcome sync(UUID chapterId) {
+        FetchedChapter fetched = fetch(chapterService.findSyncState(chapterId));
+
+        if (fetched.contentChanged()) {
+            // Single short write transaction
+            chapterService.publishSyncedContent(chapterId, fetched.content(), fetched.wordCount(),
+                    fetched.contentHash(), fetched.revision());
+            return SyncOutcome.UPDATED;
+        }
+        if (fetched.revisionChanged()) {
+            chapterService.recordUnchangedRevision(chapterId, fetched.revision());
+        }
+        return SyncOutcome.UNCHANGED;
+    }
+
+    /**
+     * The Drive side of a sync: no database access, so callers can run many of these in parallel
+     * and write the results however suits them (see {@link ProjectResyncService}).
+     */
+    FetchedChapter fetch(ChapterSyncState state) {
+        // A. Cheap metadata check
+        return fetch(state, googleService.getDocumentRevision(state.getGoogleDocId()));
+    }
+
+    /**
+     * Same as {@link #fetch(ChapterSyncState)} when the current revision is already known (the change feed carries it).
+     */
+    FetchedChapter fetch(ChapterSyncState state, DocumentRevision revision) {
+        boolean published = state.getStatus() == ChapterStatus.PUBLISHED;
+
+        if (published && revision.version() != null && revision.version().equals(state.getDriveVersion())) {
+            log.debug("Chapter {} unchanged (Drive version {}), skipping export", state.getId(), revision.version());
+            return FetchedChapter.unchanged(state.getId(), revision, false);
+        }
+
+        // B. Stream the export through normalize / hash / compress (the raw export is never buffered)
+        ChapterExportPipeline.ExportedChapter exported = exportPipeline.export(state.getGoogleDocId());
+
+        if (published && Objects.equals(exported.contentHash(), state.getContentHash())) {
+            return FetchedChapter.unchanged(state.getId(), revision, true);
+        }
+
+        // C. Calculate Stats
+        int wordCount = WordCounter.countWords(exported.html());
+        return new FetchedChapter(state.getId(), revision, exported.content(), exported.contentHash(), wordCount, true);
+    }
+
+    /**
+     * A fetch for writers that keep the chapter's status (project resync, change feed): a draft export that
+     * matches the stored copy (title edits, comments...) only needs its new revision recorded.
+     */
+    FetchedChapter refresh(ChapterSyncState state) {
+        return refresh(state, googleService.getDocumentRevision(state.getGoogleDocId()));
+    }
+
+    FetchedChapter refresh(ChapterSyncState state, DocumentRevision revision) {
+        FetchedChapter fetched = fetch(state, revision);
+        if (fetched.contentChanged() && Objects.equals(fetched.contentHash(), state.getContentHash())) {
+            return FetchedChapter.unchanged(state.getId(), revision, true);
+        }
+        return fetched;
+    }
+}
@@ -0,0 +1,177 @@
+package com.platform.studiotranslator.service.sync;
+
+import com.platform.studiotranslator.constant.ChapterStatus;
+import com.platform.studiotranslator.entity.DriveChangeCursorEntity;
+import com.platform.studiotranslator.projection.ChapterSyncState;
+import com.platform.studiotranslator.repository.ChapterRepository;
+import com.platform.studiotranslator.repository.DriveChangeCursorRepository;
+import com.platform.studiotranslator.service.googledoc.DriveChange;
+import com.platform.studiotranslator.service.googledoc.DriveChangePage;
+import com.platform.studiotranslator.service.googledoc.GoogleWorkspaceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps draft chapters in step with their Google Docs by reading the Drive {@code changes.list} feed,
+ * instead of polling every document.
+ * <p>
+ * Each poll reads the feed from the persisted page token, one page ({@code page-size} changes) at a time:
+ * changes are reduced to docs in our folder, mapped to chapters in one query, and the chapters that are not
+ * published yet get their stored copy refreshed (exports run in parallel, writes go out as one JDBC batch).
+ * The token is saved after every page, so a crash replays at most one page. Published chapters are left
+ * alone: what readers see only changes when the translator syncs &amp; publishes.
+ * <p>
+ * On the very first run the feed starts at "now"; earlier edits are picked up by the next explicit sync.
+ */
+@Slf4j
+@Service
+public class DriveChangeFeedSynchronizer {
+
+    private static final String FEED_NAME = "chapters";
+
+    private final GoogleWorkspaceService googleService;
+    private final ChapterRepository chapterRepository;
+    private final DriveChangeCursorRepository cursorRepository;
+    private final ChapterSynchronizer synchronizer;
+    private final ChapterSyncBatchWriter batchWriter;
+
+    private final boolean enabled;
+    private final int pageSize;
+    private final int maxPagesPerPoll;
+    private final int parallelism;
+
+    private final AtomicBoolean polling = new AtomicBoolean();
+
+    private final Counter changesCounter;
+    private final Counter refreshedCounter;
+    private final Counter failedCounter;
+
+    public DriveChangeFeedSynchronizer(
+            GoogleWorkspaceService googleService,
+            ChapterRepository chapterRepository,
+            DriveChangeCursorRepository cursorRepository,
+            ChapterSynchronizer synchronizer,
+            ChapterSyncBatchWriter batchWriter,
+            MeterRegistry meterRegistry,
+            @Value("${application.chapter.change-feed.enabled:true}") boolean enabled,
+            @Value("${application.chapter.change-feed.page-size:100}") int pageSize,
+            @Value("${application.chapter.change-feed.max-pages-per-poll:20}") int maxPagesPerPoll,
+            @Value("${application.chapter.change-feed.parallelism:4}") int parallelism
+    ) {
+        this.googleService = googleService;
+        this.chapterRepository = chapterRepository;
+        this.cursorRepository = cursorRepository;
+        this.synchronizer = synchronizer;
+        this.batchWriter = batchWriter;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.maxPagesPerPoll = maxPagesPerPoll;
+        this.parallelism = parallelism;
+
+        this.changesCounter = Counter.builder("chapter.change.feed.changes")
+                .description("Changed Google Docs in our folder seen on the Drive change feed")
+                .register(meterRegistry);
+        this.refreshedCounter = Counter.builder("chapter.change.feed.refreshed")
+                .description("Draft chapters whose stored copy was refreshed from the change feed")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chapter.change.feed.failures")
+                .description("Draft refreshes that failed (retried by the next change or sync)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${application.chapter.change-feed.poll-interval:30000}",
+            initialDelayString = "${application.chapter.change-feed.initial-delay:15000}")
+    public void poll() {
+        if (!enabled || !polling.compareAndSet(false, true)) return;
+
+        try {
+            String pageToken = cursorRepository.findById(FEED_NAME)
+                    .map(DriveChangeCursorEntity::getPageToken)
+                    .orElse(null);
+
+            if (pageToken == null) {
+                saveToken(googleService.getChangesStartPageToken());
+                log.info("Drive change feed initialised, watching for changes from now on");
+                return;
+            }
+
+            for (int pages = 0; pages < maxPagesPerPoll; pages++) {
+                DriveChangePage page = googleService.listChanges(pageToken, pageSize);
+                process(page.changes());
+
+                pageToken = page.resumeToken();
+                saveToken(pageToken);
+                if (page.isLastPage()) break;
+            }
+        } catch (Exception e) {
+            // The token only moves forward after a page is processed, so the next poll retries from there
+            log.warn("Drive change feed poll failed: {}", e.getMessage());
+        } finally {
+            polling.set(false);
+        }
+    }
+
+    private void process(List<DriveChange> changes) {
+        if (changes.isEmpty()) return;
+        changesCounter.increment(changes.size());
+
+        // A doc edited several times within a page shows up once per change: the last one wins
+        Map<String, DriveChange> latest = new LinkedHashMap<>();
+        changes.forEach(change -> latest.put(change.docId(), change));
+
+        List<ChapterSyncState> drafts = chapterRepository.findSyncStatesByGoogleDocIds(latest.keySet()).stream()
+                .filter(state -> state.getStatus() != ChapterStatus.PUBLISHED)
+                .filter(state -> !Objects.equals(latest.get(state.getGoogleDocId()).revision().version(), state.getDriveVersion()))
+                .toList();
+        if (drafts.isEmpty()) return;
+
+        List<FetchedChapter> fetched = Collections.synchronizedList(new ArrayList<>(drafts.size()));
+        Semaphore permits = new Semaphore(parallelism);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ChapterSyncState draft : drafts) {
+                executor.execute(() -> {
+                    try {
+                        permits.acquire();
+                        try {
+                            fetched.add(synchronizer.refresh(draft, latest.get(draft.getGoogleDocId()).revision()));
+                        } finally {
+                            permits.release();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        failedCounter.increment();
+                        log.warn("Draft refresh of chapter {} failed: {}", draft.getId(), e.getMessage());
+                    }
+                });
+            }
+        }
+
+        batchWriter.writeDrafts(fetched);
+        refreshedCounter.increment(fetched.stream().filter(FetchedChapter::contentChanged).count());
+        log.debug("Change feed refreshed {} of {} changed draft chapters", fetched.size(), drafts.size());
+    }
+
+    private void saveToken(String pageToken) {
+        cursorRepository.save(DriveChangeCursorEntity.builder()
+                .name(FEED_NAME)
+                .pageToken(pageToken)
+                .build());
+    }
+}
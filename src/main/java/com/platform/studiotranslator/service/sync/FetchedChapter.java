@@ -0,0 +1,30 @@
+package com.platform.studiotranslator.service.sync;
+
+import com.platform.studiotranslator.service.content.ChapterContentStorage;
+import com.platform.studiotranslator.service.googledoc.DocumentRevision;
+
+import java.util.UUID;
+
+/**
+ * What a sync found in Drive for one chapter, before anything is written.
+ *
+ * @param content         normalized export encoded for storage, or {@code null} when the content is unchanged
+ * @param revisionChanged Drive version moved even though the content did not (only the revision needs recording)
+ */
+record FetchedChapter(
+        UUID chapterId,
+        DocumentRevision revision,
+        ChapterContentStorage.Encoded content,
+        String contentHash,
+        int wordCount,
+        boolean revisionChanged
+) {
+
+    static FetchedChapter unchanged(UUID chapterId, DocumentRevision revision, boolean revisionChanged) {
+        return new FetchedChapter(chapterId, revision, null, null, 0, revisionChanged);
+    }
+
+    boolean contentChanged() {
+        return content != null;
+    }
+}
@@ -0,0 +1,257 @@
+package com.platform.studiotranslator.service.sync;
+
+import com.platform.studiotranslator.constant.Role;
+import com.platform.studiotranslator.constant.SyncJobStatus;
+import com.platform.studiotranslator.dto.chapter.ProjectResyncResponse;
+import com.platform.studiotranslator.entity.UserEntity;
+import com.platform.studiotranslator.projection.ChapterSyncState;
+import com.platform.studiotranslator.service.ChapterService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Re-syncs every chapter of a project in one operation. Published chapters get the new content,
+ * drafts are refreshed but stay drafts (publishing is still one chapter at a time).
+ * <p>
+ * Drive work (metadata check + export) fans out on virtual threads, at most {@code parallelism} at a time
+ * so a 300-chapter project does not burst past the Drive quota. Results are handed to the coordinating
+ * thread, which commits them in JDBC batches of {@code batch-size}. Progress lives in memory and can be
+ * polled or streamed over SSE; finished runs are kept for an hour.
+ */
+@Slf4j
+@Service
+public class ProjectResyncService {
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+    private static final Duration SSE_INTERVAL = Duration.ofSeconds(1);
+    private static final int MAX_REPORTED_FAILURES = 20;
+
+    private final ChapterService chapterService;
+    private final ChapterSynchronizer synchronizer;
+    private final ChapterSyncBatchWriter batchWriter;
+    private final Timer resyncTimer;
+
+    private final int parallelism;
+    private final int batchSize;
+
+    private final Map<UUID, Progress> resyncs = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> activeByProject = new ConcurrentHashMap<>();
+
+    public ProjectResyncService(
+            ChapterService chapterService,
+            ChapterSynchronizer synchronizer,
+            ChapterSyncBatchWriter batchWriter,
+            MeterRegistry meterRegistry,
+            @Value("${application.chapter.resync.parallelism:4}") int parallelism,
+            @Value("${application.chapter.resync.batch-size:25}") int batchSize
+    ) {
+        this.chapterService = chapterService;
+        this.synchronizer = synchronizer;
+        this.batchWriter = batchWriter;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.resyncTimer = Timer.builder("chapter.resync.duration")
+                .description("Time to re-sync a whole project")
+                .register(meterRegistry);
+    }
+
+    public ProjectResyncResponse start(UUID projectId, UserEntity user) {
+        List<ChapterSyncState> chapters = chapterService.findSyncStatesForProject(projectId, user);
+        pruneFinished();
+
+        Progress progress = new Progress(UUID.randomUUID(), projectId, user.getId(), chapters.size());
+
+        resyncs.put(progress.id, progress);
+
+        // One resync per project at a time: a second click returns the running one
+        UUID running = activeByProject.putIfAbsent(projectId, progress.id);
+        if (running != null) {
+            resyncs.remove(progress.id);
+            return resyncs.get(running).toResponse();
+        }
+
+        Thread.ofVirtual().name("project-resync-" + projectId).start(() -> run(progress, chapters));
+        return progress.toResponse();
+    }
+
+    public ProjectResyncResponse getProgress(UUID resyncId, UserEntity user) {
+        return find(resyncId, user).toResponse();
+    }
+
+    public SseEmitter subscribe(UUID resyncId, UserEntity user) {
+        Progress progress = find(resyncId, user);
+        SseEmitter emitter = new SseEmitter(0L);
+
+        // One cheap virtual thread per subscriber, pushing a snapshot every second until the run ends
+        Thread.ofVirtual().name("project-resync-sse-" + resyncId).start(() -> {
+            try {
+                while (true) {
+                    boolean finished = progress.isFinished();
+                    emitter.send(SseEmitter.event().name("progress").data(progress.toResponse()));
+                    if (finished) break;
+                    Thread.sleep(SSE_INTERVAL);
+                }
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // Client went away
+                emitter.completeWithError(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            }
+        });
+        return emitter;
+    }
+
+    private void run(Progress progress, List<ChapterSyncState> chapters) {
+        Timer.Sample sample = Timer.start();
+        BlockingQueue<FetchedChapter> fetched = new LinkedBlockingQueue<>();
+        AtomicInteger outstanding = new AtomicInteger(chapters.size());
+        Semaphore permits = new Semaphore(parallelism);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ChapterSyncState chapter : chapters) {
+                executor.execute(() -> {
+                    try {
+                        permits.acquire();
+                        try {
+                            fetched.add(synchronizer.refresh(chapter));
+                        } finally {
+                            permits.release();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        progress.fail(chapter.getId(), "Interrupted");
+                    } catch (Exception e) {
+                        log.warn("Resync of chapter {} failed: {}", chapter.getId(), e.getMessage());
+                        progress.fail(chapter.getId(), e.getMessage());
+                    } finally {
+                        outstanding.decrementAndGet();
+                    }
+                });
+            }
+
+            // Drain results into batches while the fetches are still running
+            List<FetchedChapter> batch = new ArrayList<>(batchSize);
+            while (outstanding.get() > 0 || !fetched.isEmpty()) {
+                FetchedChapter next = fetched.poll(500, TimeUnit.MILLISECONDS);
+                if (next != null) batch.add(next);
+
+                boolean drained = next == null || outstanding.get() == 0 && fetched.isEmpty();
+                if (batch.size() >= batchSize || (drained && !batch.isEmpty())) {
+                    commit(progress, batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            progress.finish(SyncJobStatus.SUCCEEDED);
+        } catch (Exception e) {
+            log.error("Resync of project {} aborted: {}", progress.projectId, e.getMessage());
+            progress.finish(SyncJobStatus.FAILED);
+        } finally {
+            activeByProject.remove(progress.projectId, progress.id);
+            sample.stop(resyncTimer);
+            log.info("Resync of project {} finished: {}", progress.projectId, progress.toResponse());
+        }
+    }
+
+    private void commit(Progress progress, List<FetchedChapter> batch) {
+        try {
+            batchWriter.write(batch);
+            for (FetchedChapter chapter : batch) {
+                if (chapter.contentChanged()) {
+                    progress.updated.incrementAndGet();
+                } else {
+                    progress.unchanged.incrementAndGet();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to write a resync batch of {} chapters: {}", batch.size(), e.getMessage());
+            batch.forEach(chapter -> progress.fail(chapter.chapterId(), "Database write failed"));
+        }
+    }
+
+    private Progress find(UUID resyncId, UserEntity user) {
+        Progress progress = resyncs.get(resyncId);
+        if (progress == null) {
+            throw new IllegalArgumentException("Resync not found");
+        }
+        if (!progress.requestedById.equals(user.getId()) && user.getRole() != Role.ADMIN) {
+            throw new SecurityException("You do not own this resync");
+        }
+        return progress;
+    }
+
+    private void pruneFinished() {
+        Instant cutoff = Instant.now().minus(RETENTION);
+        resyncs.values().removeIf(p -> p.finishedAt != null && p.finishedAt.isBefore(cutoff));
+    }
+
+    private static final class Progress {
+        private final UUID id;
+        private final UUID projectId;
+        private final UUID requestedById;
+        private final int total;
+        private final Instant startedAt = Instant.now();
+
+        private final AtomicInteger updated = new AtomicInteger();
+        private final AtomicInteger unchanged = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final List<ProjectResyncResponse.Failure> failures = new CopyOnWriteArrayList<>();
+
+        private volatile SyncJobStatus status = SyncJobStatus.RUNNING;
+        private volatile Instant finishedAt;
+
+        Progress(UUID id, UUID projectId, UUID requestedById, int total) {
+            this.id = id;
+            this.projectId = projectId;
+            this.requestedById = requestedById;
+            this.total = total;
+        }
+
+        void fail(UUID chapterId, String error) {
+            failed.incrementAndGet();
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(new ProjectResyncResponse.Failure(chapterId, error));
+            }
+        }
+
+        void finish(SyncJobStatus finalStatus) {
+            finishedAt = Instant.now();
+            status = finalStatus;
+        }
+
+        boolean isFinished() {
+            return status != SyncJobStatus.RUNNING;
+        }
+
+        ProjectResyncResponse toResponse() {
+            int done = updated.get() + unchanged.get() + failed.get();
+            return new ProjectResyncResponse(
+                    id, projectId, status, total,
+                    updated.get(), unchanged.get(), failed.get(), Math.max(0, total - done),
+                    List.copyOf(failures), startedAt, finishedAt
+            );
+        }
+    }
+}
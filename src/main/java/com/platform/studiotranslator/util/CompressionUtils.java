@@ -0,0 +1,46 @@
+package com.platform.studiotranslator.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip helpers. Gzip (rather than a dictionary codec) is used for stored content
+ * because the bytes can be sent as-is to any client that accepts {@code Content-Encoding: gzip}.
+ */
+@UtilityClass
+public class CompressionUtils {
+
+    public static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to gzip data", e);
+        }
+        return out.toByteArray();
+    }
+
+    public static byte[] gzip(String text) {
+        return gzip(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static byte[] gunzip(byte[] data) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to gunzip data", e);
+        }
+    }
+
+    public static String gunzipToString(byte[] data) {
+        return new String(gunzip(data), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,50 @@
+package com.platform.studiotranslator.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+@UtilityClass
+public class HttpCacheUtils {
+
+    /**
+     * Builds a strong ETag from the parts that identify a representation (id, version, paging...).
+     * The value is hashed so internal ids and counters are not echoed back verbatim.
+     */
+    public static String etag(Object... parts) {
+        String key = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * True if the Accept-Encoding header lists the given coding (or *) without q=0.
+     */
+    public static boolean acceptsEncoding(String acceptEncoding, String coding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) return false;
+
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String name = tokens[0].trim();
+            if (!name.equalsIgnoreCase(coding) && !name.equals("*")) continue;
+
+            boolean rejected = false;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        rejected = Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException ignored) {
+                        rejected = true;
+                    }
+                }
+            }
+            if (!rejected) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,20 @@
+package com.platform.studiotranslator.util;
+
+import java.lang.Character.UnicodeScript;
+import java.util.Map;
+
+/**
+ * Result of {@link WordCounter#count(String)}.
+ *
+ * @param total    all words, whatever the script
+ * @param byScript words per script; Han and Kana count one per character, other scripts one per
+ *                 space/punctuation-delimited run (numbers are reported under {@code COMMON})
+ */
+public record WordCount(int total, Map<UnicodeScript, Integer> byScript) {
+
+    public static final WordCount EMPTY = new WordCount(0, Map.of());
+
+    public int of(UnicodeScript script) {
+        return byScript.getOrDefault(script, 0);
+    }
+}
@@ -0,0 +1,317 @@
+package com.platform.studiotranslator.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.lang.Character.UnicodeScript;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Counts words in stored chapter HTML in a single pass, without copying the document.
+ * <p>
+ * Markup, comments and {@code <style>/<script>} bodies are skipped in place and entities are
+ * decoded on the fly. Formatting tags ({@code <strong>}, {@code <em>}, ...) do not split a word;
+ * any other tag does.
+ * <p>
+ * Chinese and Japanese do not put spaces between words, so Han ideographs and Kana count one word
+ * per character (the convention used by Word and Google Docs). Every other script, Hangul included,
+ * counts runs of letters/digits; apostrophes and hyphens inside a run, and separators inside a
+ * number, do not split it.
+ */
+@UtilityClass
+public class WordCounter {
+
+    private static final UnicodeScript[] SCRIPTS = UnicodeScript.values();
+
+    private static final String[] INLINE_TAGS = {"a", "b", "i", "u", "s", "em", "strong", "sup", "sub", "code", "span"};
+    private static final String[] RAW_TEXT_TAGS = {"style", "script"};
+
+    private static final String[] JOINER_ENTITIES = {"apos", "rsquo", "shy", "zwj", "zwnj"};
+    private static final String[] SEPARATOR_ENTITIES = {
+            "nbsp", "ensp", "emsp", "thinsp", "mdash", "ndash", "hellip", "amp", "lt", "gt", "quot",
+            "ldquo", "rdquo", "lsquo", "laquo", "raquo", "bull", "middot", "para", "sect", "copy"
+    };
+
+    // What a character means to the scanner
+    private static final int SEPARATOR = 0;
+    private static final int JOINER = 1;
+    private static final int NUMBER_JOINER = 2;
+    private static final int WORD_CHAR = 3;
+    private static final int CJK_CHAR = 4;
+
+    /** The total only: no per-script bookkeeping, a single small allocation. */
+    public static int countWords(String html) {
+        if (html == null || html.isEmpty()) return 0;
+
+        Scan scan = new Scan(html, false);
+        scan.run();
+        return scan.total;
+    }
+
+    /** The total and the words per script. */
+    public static WordCount count(String html) {
+        if (html == null || html.isEmpty()) return WordCount.EMPTY;
+
+        Scan scan = new Scan(html, true);
+        scan.run();
+        return scan.result();
+    }
+
+    /**
+     * Holds the scan position and, when asked for, per-script counters; a single instance per call is the only
+     * allocation besides the result.
+     */
+    private static final class Scan {
+
+        private final String s;
+        private final int n;
+        private final int[] counts; // null when only the total is wanted
+        private int total;
+
+        private int pos;
+        private boolean inWord;
+        private boolean lastWasDigit;
+
+        Scan(String s, boolean byScript) {
+            this.s = s;
+            this.n = s.length();
+            this.counts = byScript ? new int[SCRIPTS.length] : null;
+        }
+
+        void run() {
+            while (pos < n) {
+                char c = s.charAt(pos);
+                if (c == '<') {
+                    markup();
+                } else if (c == '&') {
+                    entity();
+                } else {
+                    int cp = c;
+                    int width = 1;
+                    if (Character.isHighSurrogate(c) && pos + 1 < n) {
+                        cp = s.codePointAt(pos);
+                        width = Character.charCount(cp);
+                    }
+                    accept(cp, classify(cp));
+                    pos += width;
+                }
+            }
+        }
+
+        WordCount result() {
+            Map<UnicodeScript, Integer> byScript = new EnumMap<>(UnicodeScript.class);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) byScript.put(SCRIPTS[i], counts[i]);
+            }
+            return new WordCount(total, byScript);
+        }
+
+        private void accept(int cp, int kind) {
+            switch (kind) {
+                case WORD_CHAR -> {
+                    if (!inWord) {
+                        inWord = true;
+                        total++;
+                        if (counts != null) counts[scriptOf(cp).ordinal()]++;
+                    }
+                    lastWasDigit = cp < 128 ? (cp >= '0' && cp <= '9') : Character.isDigit(cp);
+                }
+                case CJK_CHAR -> {
+                    inWord = false;
+                    total++;
+                    if (counts != null) counts[cjkScriptOf(cp).ordinal()]++;
+                }
+                case JOINER -> lastWasDigit = false;
+                case NUMBER_JOINER -> {
+                    if (!lastWasDigit) inWord = false;
+                    lastWasDigit = false;
+                }
+                default -> {
+                    inWord = false;
+                    lastWasDigit = false;
+                }
+            }
+        }
+
+        private void markup() {
+            if (s.startsWith("<!--", pos)) {
+                int end = s.indexOf("-->", pos + 4);
+                pos = end < 0 ? n : end + 3;
+                inWord = false;
+                return;
+            }
+
+            int nameStart = pos + 1;
+            boolean closing = nameStart < n && s.charAt(nameStart) == '/';
+            if (closing) nameStart++;
+            int nameEnd = nameStart;
+            while (nameEnd < n && isTagNameChar(s.charAt(nameEnd))) nameEnd++;
+
+            if (nameEnd == nameStart) {
+                // A bare '<' in text
+                accept('<', SEPARATOR);
+                pos++;
+                return;
+            }
+
+            pos = skipTag(nameEnd);
+            if (!matchesAny(INLINE_TAGS, nameStart, nameEnd)) inWord = false;
+
+            if (!closing) {
+                for (String raw : RAW_TEXT_TAGS) {
+                    if (matches(raw, nameStart, nameEnd)) {
+                        skipRawText(raw);
+                        break;
+                    }
+                }
+            }
+        }
+
+        private int skipTag(int from) {
+            char quote = 0;
+            for (int i = from; i < n; i++) {
+                char c = s.charAt(i);
+                if (quote != 0) {
+                    if (c == quote) quote = 0;
+                } else if (c == '"' || c == '\'') {
+                    quote = c;
+                } else if (c == '>') {
+                    return i + 1;
+                }
+            }
+            return n;
+        }
+
+        private void skipRawText(String tag) {
+            int i = pos;
+            while ((i = s.indexOf("</", i)) >= 0) {
+                if (s.regionMatches(true, i + 2, tag, 0, tag.length())) {
+                    pos = skipTag(i + 2 + tag.length());
+                    return;
+                }
+                i += 2;
+            }
+            pos = n;
+        }
+
+        private void entity() {
+            int start = pos + 1;
+            int end = start;
+            int limit = Math.min(n, start + 32);
+            while (end < limit && s.charAt(end) != ';' && isEntityChar(s.charAt(end))) end++;
+
+            if (end == start || end >= limit || s.charAt(end) != ';') {
+                // Not an entity, just an ampersand
+                accept('&', SEPARATOR);
+                pos++;
+                return;
+            }
+            pos = end + 1;
+
+            if (s.charAt(start) == '#') {
+                int cp = parseCodePoint(start + 1, end);
+                if (cp < 0) {
+                    accept(' ', SEPARATOR);
+                } else {
+                    accept(cp, classify(cp));
+                }
+            } else if (matchesAny(JOINER_ENTITIES, start, end)) {
+                accept('\'', JOINER);
+            } else if (matchesAny(SEPARATOR_ENTITIES, start, end)) {
+                accept(' ', SEPARATOR);
+            } else {
+                // Named letters (&eacute;, &szlig;, ...)
+                accept('a', WORD_CHAR);
+            }
+        }
+
+        private int parseCodePoint(int from, int to) {
+            int radix = 10;
+            if (from < to && (s.charAt(from) == 'x' || s.charAt(from) == 'X')) {
+                radix = 16;
+                from++;
+            }
+            if (from == to) return -1;
+
+            int cp = 0;
+            for (int i = from; i < to; i++) {
+                int digit = Character.digit(s.charAt(i), radix);
+                if (digit < 0) return -1;
+                cp = cp * radix + digit;
+                if (cp > Character.MAX_CODE_POINT) return -1;
+            }
+            return cp;
+        }
+
+        private boolean matchesAny(String[] names, int from, int to) {
+            for (String name : names) {
+                if (matches(name, from, to)) return true;
+            }
+            return false;
+        }
+
+        private boolean matches(String name, int from, int to) {
+            return to - from == name.length() && s.regionMatches(true, from, name, 0, name.length());
+        }
+    }
+
+    private static int classify(int cp) {
+        if (cp < 128) {
+            if ((cp >= 'a' && cp <= 'z') || (cp >= 'A' && cp <= 'Z') || (cp >= '0' && cp <= '9')) return WORD_CHAR;
+            if (cp == '\'' || cp == '-') return JOINER;
+            if (cp == '.' || cp == ',') return NUMBER_JOINER;
+            return SEPARATOR;
+        }
+        if (isHanOrKana(cp)) return CJK_CHAR;
+        // Right single quote, hyphens, soft hyphen, zero-width (non-)joiner
+        if (cp == 0x2019 || cp == 0x2010 || cp == 0x2011 || cp == 0x00AD || cp == 0x200C || cp == 0x200D) {
+            return JOINER;
+        }
+
+        return switch (Character.getType(cp)) {
+            case Character.UPPERCASE_LETTER, Character.LOWERCASE_LETTER, Character.TITLECASE_LETTER,
+                 Character.MODIFIER_LETTER, Character.OTHER_LETTER, Character.DECIMAL_DIGIT_NUMBER,
+                 Character.LETTER_NUMBER, Character.OTHER_NUMBER,
+                 // Vowel signs and viramas in Indic and Arabic scripts are part of the word
+                 Character.NON_SPACING_MARK, Character.COMBINING_SPACING_MARK, Character.ENCLOSING_MARK -> WORD_CHAR;
+            default -> SEPARATOR;
+        };
+    }
+
+    private static boolean isHanOrKana(int cp) {
+        return (cp >= 0x4E00 && cp <= 0x9FFF)       // CJK Unified Ideographs
+                || (cp >= 0x3400 && cp <= 0x4DBF)   // Extension A
+                || (cp >= 0xF900 && cp <= 0xFAFF)   // Compatibility Ideographs
+                || (cp >= 0x20000 && cp <= 0x3134F) // Extensions B-G
+                || (cp >= 0x3040 && cp <= 0x30FF)   // Hiragana, Katakana
+                || (cp >= 0x31F0 && cp <= 0x31FF)   // Katakana Phonetic Extensions
+                || (cp >= 0xFF66 && cp <= 0xFF9D)   // Half-width Katakana
+                || cp == 0x3005;                    // Iteration mark
+    }
+
+    // Cheaper than UnicodeScript.of(), which is a binary search, for the ranges isHanOrKana() accepts
+    private static UnicodeScript cjkScriptOf(int cp) {
+        if (cp >= 0x3040 && cp <= 0x309F) return UnicodeScript.HIRAGANA;
+        if ((cp >= 0x30A0 && cp <= 0x30FF) || (cp >= 0x31F0 && cp <= 0x31FF) || (cp >= 0xFF66 && cp <= 0xFF9D)) {
+            return UnicodeScript.KATAKANA;
+        }
+        return UnicodeScript.HAN;
+    }
+
+    private static UnicodeScript scriptOf(int cp) {
+        if (cp < 128) {
+            return cp <= '9' ? UnicodeScript.COMMON : UnicodeScript.LATIN;
+        }
+        UnicodeScript script = UnicodeScript.of(cp);
+        // A word that starts with a combining mark belongs to the script it was combined into
+        return script == UnicodeScript.INHERITED ? UnicodeScript.COMMON : script;
+    }
+
+    private static boolean isTagNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '!';
+    }
+
+    private static boolean isEntityChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '#';
+    }
+}
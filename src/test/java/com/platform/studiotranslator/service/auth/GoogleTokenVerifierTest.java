@@ -0,0 +1,215 @@
+package com.platform.studiotranslator.service.auth;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.json.webtoken.JsonWebSignature;
+import com.platform.studiotranslator.exception.InvalidGoogleTokenException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies ID tokens signed with locally generated RSA keys, published by a local stand-in for Google's JWKS endpoint.
+ */
+class GoogleTokenVerifierTest {
+
+    private static final String CLIENT_ID = "test-client.apps.googleusercontent.com";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final Map<String, KeyPair> published = new ConcurrentHashMap<>();
+    private final AtomicInteger certFetches = new AtomicInteger();
+
+    private HttpServer server;
+    private GooglePublicKeys publicKeys;
+    private GoogleTokenVerifier verifier;
+
+    @BeforeEach
+    void start() throws Exception {
+        published.put("key-1", generateKeyPair());
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/oauth2/v3/certs", exchange -> {
+            certFetches.incrementAndGet();
+            byte[] body = jwks().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=3600, must-revalidate");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        publicKeys = new GooglePublicKeys(new NetHttpTransport(),
+                "http://localhost:" + server.getAddress().getPort() + "/oauth2/v3/certs",
+                Duration.ofMinutes(10), clock);
+        publicKeys.refreshIfDue();
+        verifier = new GoogleTokenVerifier(publicKeys, CLIENT_ID, clock);
+    }
+
+    @AfterEach
+    void stop() {
+        server.stop(0);
+    }
+
+    @Test
+    void acceptsValidTokensWithoutCallingGoogle() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            GoogleIdToken.Payload payload = verifier.verify(sign("key-1", CLIENT_ID, "https://accounts.google.com", 600));
+            assertThat(payload.getEmail()).isEqualTo("reader@example.com");
+        }
+
+        assertThat(certFetches).hasValue(1);
+    }
+
+    @Test
+    void rejectsWrongAudienceIssuerOrExpiredTokens() throws Exception {
+        assertThatThrownBy(() -> verifier.verify(sign("key-1", "someone-else", "https://accounts.google.com", 600)))
+                .isInstanceOf(InvalidGoogleTokenException.class);
+        assertThatThrownBy(() -> verifier.verify(sign("key-1", CLIENT_ID, "https://evil.example.com", 600)))
+                .isInstanceOf(InvalidGoogleTokenException.class);
+        // Beyond the 5 minute clock skew
+        assertThatThrownBy(() -> verifier.verify(sign("key-1", CLIENT_ID, "accounts.google.com", -301)))
+                .isInstanceOf(InvalidGoogleTokenException.class);
+        assertThatThrownBy(() -> verifier.verify("not-a-jwt"))
+                .isInstanceOf(InvalidGoogleTokenException.class);
+    }
+
+    @Test
+    void rejectsTokensSignedWithAnUnpublishedKey() throws Exception {
+        KeyPair attacker = generateKeyPair();
+        String forged = sign(attacker, "key-1", CLIENT_ID, "https://accounts.google.com", 600);
+
+        assertThatThrownBy(() -> verifier.verify(forged)).isInstanceOf(InvalidGoogleTokenException.class);
+    }
+
+    @Test
+    void rejectsTokensWithoutKeyId() throws Exception {
+        String withoutKid = sign(published.get("key-1"), null, CLIENT_ID, "https://accounts.google.com", 600);
+        String blankKid = sign(published.get("key-1"), " ", CLIENT_ID, "https://accounts.google.com", 600);
+
+        assertThatThrownBy(() -> verifier.verify(withoutKid)).isInstanceOf(InvalidGoogleTokenException.class);
+        assertThatThrownBy(() -> verifier.verify(blankKid)).isInstanceOf(InvalidGoogleTokenException.class);
+        assertThat(publicKeys.get(null)).isNull();
+    }
+
+    @Test
+    void refreshesKeysInTheBackgroundBeforeMaxAgeRunsOut() throws Exception {
+        published.put("key-2", generateKeyPair());
+
+        // Still well within max-age: nothing to do
+        clock.advance(Duration.ofMinutes(30));
+        publicKeys.refreshIfDue();
+        assertThat(certFetches).hasValue(1);
+
+        // Inside the refresh-ahead window: the rotated-in key is picked up
+        clock.advance(Duration.ofMinutes(21));
+        publicKeys.refreshIfDue();
+        assertThat(certFetches).hasValue(2);
+
+        assertThat(verifier.verify(sign("key-2", CLIENT_ID, "accounts.google.com", 600)).getSubject())
+                .isEqualTo("1234567890");
+        assertThat(certFetches).hasValue(2);
+    }
+
+    private String sign(String keyId, String audience, String issuer, long expiresInSeconds) throws GeneralSecurityException, IOException {
+        return sign(published.get(keyId), keyId, audience, issuer, expiresInSeconds);
+    }
+
+    private String sign(KeyPair keyPair, String keyId, String audience, String issuer, long expiresInSeconds)
+            throws GeneralSecurityException, IOException {
+        long now = clock.instant().getEpochSecond();
+
+        JsonWebSignature.Header header = new JsonWebSignature.Header()
+                .setAlgorithm("RS256")
+                .setType("JWT")
+                .setKeyId(keyId);
+        GoogleIdToken.Payload payload = new GoogleIdToken.Payload()
+                .setIssuer(issuer)
+                .setAudience(audience)
+                .setSubject("1234567890")
+                .setEmail("reader@example.com")
+                .setEmailVerified(true)
+                .setIssuedAtTimeSeconds(now - 60)
+                .setExpirationTimeSeconds(now + expiresInSeconds);
+
+        return JsonWebSignature.signUsingRsaSha256(keyPair.getPrivate(), GsonFactory.getDefaultInstance(), header, payload);
+    }
+
+    private String jwks() {
+        StringBuilder keys = new StringBuilder();
+        published.forEach((keyId, keyPair) -> {
+            RSAPublicKey key = (RSAPublicKey) keyPair.getPublic();
+            if (!keys.isEmpty()) keys.append(',');
+            keys.append("""
+                    {"kty":"RSA","alg":"RS256","use":"sig","kid":"%s","n":"%s","e":"%s"}"""
+                    .formatted(keyId, base64Url(key.getModulus().toByteArray()), base64Url(key.getPublicExponent().toByteArray())));
+        });
+        return "{\"keys\":[" + keys + "]}";
+    }
+
+    private static String base64Url(byte[] bytes) {
+        // BigInteger adds a sign byte; JWK wants the unsigned big-endian value
+        int offset = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+        byte[] unsigned = Arrays.copyOfRange(bytes, offset, bytes.length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(unsigned);
+    }
+
+    private static KeyPair generateKeyPair() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.platform.studiotranslator.service.googledoc;
+
+import com.platform.studiotranslator.exception.DriveUnavailableException;
+import com.sun.net.httpserver.HttpExchange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Bulk creation against a local stub of Drive's batch endpoint, which answers each item of a batch separately.
+ */
+class DriveBatchTest {
+
+    private static final String BOUNDARY = "batch_stub";
+    private static final Pattern CREATE_NAME = Pattern.compile("\"name\":\"([^\"]+)\"");
+
+    private FakeDriveServer server;
+    // Per batch item, in order: the status to answer with (200 creates the doc)
+    private final Deque<Integer> itemStatuses = new ArrayDeque<>();
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private final AtomicInteger deletes = new AtomicInteger();
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = new FakeDriveServer().handle("/batch/drive/v3", this::batch);
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.close();
+    }
+
+    @Test
+    void retriesOnlyTheRateLimitedItems() {
+        itemStatuses.addAll(List.of(200, 403, 200, 429, 200, 200));
+
+        List<String> ids = service().createDocuments(List.of("a", "b", "c", "d"));
+
+        assertThat(ids).containsExactly("id-a", "id-b", "id-c", "id-d");
+        assertThat(batches).containsExactly(List.of("a", "b", "c", "d"), List.of("b", "d"));
+        assertThat(deletes).hasValue(0);
+    }
+
+    @Test
+    void deletesWhatWasCreatedOncePermanentErrorsOccur() {
+        itemStatuses.addAll(List.of(200, 400, 200));
+
+        assertThatThrownBy(() -> service().createDocuments(List.of("a", "b", "c")))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Failed to create 1 Google Docs");
+        assertThat(batches).hasSize(1);
+        assertThat(deletes).hasValue(2);
+    }
+
+    @Test
+    void chargesTheRateLimiterOneTokenPerBatchItem() {
+        // 3 tokens, refilling at 1/s, no waiting allowed
+        DriveClient client = new DriveClient(new SimpleMeterRegistry(), 1, 3, 0, 4, 1000, 10, 60_000, 1, 1, 5);
+        GoogleWorkspaceServiceImpl service = server.service(client);
+
+        assertThat(service.createDocuments(List.of("a", "b", "c"))).hasSize(3);
+        assertThatThrownBy(() -> service.createDocuments(List.of("d")))
+                .isInstanceOf(DriveUnavailableException.class);
+        assertThat(batches).hasSize(1);
+    }
+
+    private GoogleWorkspaceServiceImpl service() {
+        return server.service(FakeDriveServer.client(4, 10));
+    }
+
+    private void batch(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        StringBuilder response = new StringBuilder();
+
+        if (body.contains("DELETE ")) {
+            int count = body.split("DELETE ", -1).length - 1;
+            deletes.addAndGet(count);
+            for (int i = 0; i < count; i++) part(response, 204, "");
+        } else {
+            List<String> names = CREATE_NAME.matcher(body).results().map(m -> m.group(1)).toList();
+            batches.add(names);
+            for (String name : names) {
+                int status = itemStatuses.isEmpty() ? 200 : itemStatuses.poll();
+                part(response, status, status == 200 ? "{\"id\":\"id-" + name + "\"}" : error(status));
+            }
+        }
+        response.append("--").append(BOUNDARY).append("--\r\n");
+
+        byte[] bytes = response.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "multipart/mixed; boundary=" + BOUNDARY);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void part(StringBuilder response, int status, String json) {
+        response.append("--").append(BOUNDARY).append("\r\n")
+                .append("Content-Type: application/http\r\n\r\n")
+                .append("HTTP/1.1 ").append(status).append(status == 200 || status == 204 ? " OK" : " Error").append("\r\n")
+                .append("Content-Type: application/json; charset=UTF-8\r\n\r\n")
+                .append(json).append("\r\n");
+    }
+
+    private static String error(int status) {
+        String reason = status == 403 || status == 429 ? "rateLimitExceeded" : "badRequest";
+        return "{\"error\":{\"code\":" + status + ",\"message\":\"" + reason + "\",\"errors\":[{\"reason\":\"" + reason + "\"}]}}";
+    }
+}
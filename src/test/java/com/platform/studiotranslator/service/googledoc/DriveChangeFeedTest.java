@@ -0,0 +1,125 @@
+package com.platform.studiotranslator.service.googledoc;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reads the change feed from a local stub of Drive's {@code changes} endpoints.
+ */
+class DriveChangeFeedTest {
+
+    private static final String DOC = "application/vnd.google-apps.document";
+    private static final String SHEET = "application/vnd.google-apps.spreadsheet";
+    private static final String OUR_FOLDER = GoogleWorkspaceServiceImpl.PARENT_FOLDER_ID;
+
+    private FakeDriveServer server;
+    private StubChanges changes;
+    private GoogleWorkspaceService service;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        changes = new StubChanges();
+        server = new FakeDriveServer().handle("/drive/v3/changes", changes);
+        service = server.service(FakeDriveServer.client(1, 10));
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.close();
+    }
+
+    @Test
+    void keepsOnlyGoogleDocsInOurFolder() {
+        String start = service.getChangesStartPageToken();
+
+        changes.record("doc-1", DOC, OUR_FOLDER, false, 5);
+        changes.record("doc-elsewhere", DOC, "another-folder", false, 2);
+        changes.record("doc-trashed", DOC, OUR_FOLDER, true, 9);
+        changes.record("sheet-1", SHEET, OUR_FOLDER, false, 3);
+
+        DriveChangePage page = service.listChanges(start, 100);
+
+        assertThat(page.changes()).extracting(DriveChange::docId).containsExactly("doc-1");
+        assertThat(page.changes().getFirst().revision().version()).isEqualTo(5L);
+        assertThat(page.isLastPage()).isTrue();
+        assertThat(page.resumeToken()).isEqualTo("4");
+    }
+
+    @Test
+    void followsPageTokensUntilTheHeadOfTheFeed() {
+        String token = service.getChangesStartPageToken();
+        for (int i = 1; i <= 5; i++) {
+            changes.record("doc-" + i, DOC, OUR_FOLDER, false, i);
+        }
+
+        DriveChangePage first = service.listChanges(token, 2);
+        DriveChangePage second = service.listChanges(first.resumeToken(), 2);
+        DriveChangePage last = service.listChanges(second.resumeToken(), 2);
+
+        assertThat(first.isLastPage()).isFalse();
+        assertThat(second.isLastPage()).isFalse();
+        assertThat(last.isLastPage()).isTrue();
+        assertThat(List.of(first, second, last))
+                .flatExtracting(DriveChangePage::changes)
+                .extracting(DriveChange::docId)
+                .containsExactly("doc-1", "doc-2", "doc-3", "doc-4", "doc-5");
+
+        // Nothing new since: an empty page that hands back the same position
+        DriveChangePage idle = service.listChanges(last.resumeToken(), 2);
+        assertThat(idle.changes()).isEmpty();
+        assertThat(idle.resumeToken()).isEqualTo(last.resumeToken());
+    }
+
+    /**
+     * {@code changes.getStartPageToken} and {@code changes.list} over an in-memory change log;
+     * a page token is simply a position in the log.
+     */
+    private static final class StubChanges implements HttpHandler {
+
+        private final List<String> log = new CopyOnWriteArrayList<>();
+
+        void record(String fileId, String mimeType, String parent, boolean trashed, long version) {
+            log.add("""
+                    {"fileId":"%s","file":{"mimeType":"%s","parents":["%s"],"trashed":%b,"version":"%d","modifiedTime":"2025-01-01T00:00:00.000Z"}}
+                    """.formatted(fileId, mimeType, parent, trashed, version));
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            if (exchange.getRequestURI().getPath().endsWith("/startPageToken")) {
+                FakeDriveServer.respond(exchange, 200, "{\"startPageToken\":\"" + log.size() + "\"}");
+                return;
+            }
+
+            Map<String, String> query = query(exchange);
+            int from = Integer.parseInt(query.get("pageToken"));
+            int to = Math.min(log.size(), from + Integer.parseInt(query.getOrDefault("pageSize", "100")));
+
+            String token = to < log.size()
+                    ? "\"nextPageToken\":\"" + to + "\""
+                    : "\"newStartPageToken\":\"" + to + "\"";
+            FakeDriveServer.respond(exchange, 200,
+                    "{" + token + ",\"changes\":[" + String.join(",", log.subList(from, to)) + "]}");
+        }
+
+        private static Map<String, String> query(HttpExchange exchange) {
+            Map<String, String> query = new HashMap<>();
+            for (String parameter : exchange.getRequestURI().getQuery().split("&")) {
+                String[] pair = parameter.split("=", 2);
+                query.put(pair[0], pair.length > 1 ? pair[1] : "");
+            }
+            return query;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.platform.studiotranslator.service.googledoc;
+
+import com.platform.studiotranslator.exception.DocumentTooLargeException;
+import com.platform.studiotranslator.exception.DriveUnavailableException;
+import com.sun.net.httpserver.HttpHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the Drive client against a local fake Drive HTTP server that plays back scripted responses.
+ */
+class DriveClientTest {
+
+    private static final String REVISION_JSON = "{\"version\":\"7\",\"modifiedTime\":\"2025-01-01T00:00:00.000Z\"}";
+
+    private FakeDriveServer server;
+    private final Deque<Response> script = new ArrayDeque<>();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private record Response(int status, String body) {}
+
+    @BeforeEach
+    void startFakeDrive() throws IOException {
+        HttpHandler drive = exchange -> {
+            requests.incrementAndGet();
+            Response response = script.size() > 1 ? script.poll() : script.peek();
+            FakeDriveServer.respond(exchange, response.status(), response.body());
+        };
+        server = new FakeDriveServer()
+                .handle("/drive/v3/files/", drive)
+                // Media downloads (files.export) go to the download endpoint
+                .handle("/download/drive/v3/files/", drive);
+    }
+
+    @AfterEach
+    void stopFakeDrive() {
+        server.close();
+    }
+
+    @Test
+    void retriesRateLimitAndServerErrors() {
+        script.add(new Response(429, error(429, "rateLimitExceeded")));
+        script.add(new Response(403, error(403, "userRateLimitExceeded")));
+        script.add(new Response(503, error(503, "backendError")));
+        script.add(new Response(200, REVISION_JSON));
+
+        DocumentRevision revision = service(client(5, 10)).getDocumentRevision("doc-1");
+
+        assertThat(revision.version()).isEqualTo(7L);
+        assertThat(requests).hasValue(4);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        script.add(new Response(403, error(403, "insufficientFilePermissions")));
+
+        assertThatThrownBy(() -> service(client(5, 10)).getDocumentRevision("doc-1"))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void notFoundIsReportedWithoutRetry() {
+        script.add(new Response(404, error(404, "notFound")));
+
+        assertThatThrownBy(() -> service(client(5, 10)).getDocumentRevision("doc-1"))
+                .hasMessageContaining("Document not found");
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void opensCircuitAfterRepeatedFailures() {
+        script.add(new Response(500, error(500, "backendError")));
+        GoogleWorkspaceServiceImpl service = service(client(1, 2));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> service.getDocumentRevision("doc-1"))
+                    .isNotInstanceOf(DriveUnavailableException.class);
+        }
+        assertThatThrownBy(() -> service.getDocumentRevision("doc-1"))
+                .isInstanceOf(DriveUnavailableException.class);
+
+        // The open circuit never reached the server
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void abortsExportPastSizeLimitWithoutRetry() {
+        script.add(new Response(200, "<p>" + "x".repeat(64 * 1024) + "</p>"));
+        GoogleWorkspaceServiceImpl service = service(client(5, 10));
+
+        assertThatThrownBy(() -> service.exportDocument("doc-1", 16 * 1024, InputStream::readAllBytes))
+                .isInstanceOf(DocumentTooLargeException.class);
+        assertThat(requests).hasValue(1);
+
+        assertThat(service.exportDocument("doc-1", 128 * 1024, InputStream::readAllBytes)).hasSize(64 * 1024 + 7);
+    }
+
+    private DriveClient client(int maxAttempts, int failureThreshold) {
+        return FakeDriveServer.client(maxAttempts, failureThreshold);
+    }
+
+    private GoogleWorkspaceServiceImpl service(DriveClient client) {
+        return server.service(client);
+    }
+
+    private static String error(int code, String reason) {
+        return """
+                {"error":{"code":%d,"message":"%s","errors":[{"domain":"usageLimits","reason":"%s","message":"%s"}]}}
+                """.formatted(code, reason, reason, reason);
+    }
+}
@@ -0,0 +1,64 @@
+package com.platform.studiotranslator.service.googledoc;
+
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.drive.Drive;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A local stand-in for the Drive API. Tests register handlers per path and get a real
+ * {@link GoogleWorkspaceServiceImpl} pointed at it (the same way {@code application.google.drive.root-url} does).
+ */
+final class FakeDriveServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    FakeDriveServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.start();
+    }
+
+    FakeDriveServer handle(String path, HttpHandler handler) {
+        server.createContext(path, handler);
+        return this;
+    }
+
+    GoogleWorkspaceServiceImpl service(DriveClient client) {
+        Drive drive = new Drive.Builder(new NetHttpTransport(), GsonFactory.getDefaultInstance(), null)
+                .setRootUrl("http://localhost:" + server.getAddress().getPort() + "/")
+                .setApplicationName("test")
+                .build();
+        return new GoogleWorkspaceServiceImpl(drive, client);
+    }
+
+    static DriveClient client(int maxAttempts, int failureThreshold) {
+        return new DriveClient(new SimpleMeterRegistry(),
+                1000, 100, 1000,   // rate limit: permits/s, burst, max wait
+                4, 1000,           // bulkhead: max concurrent, max wait
+                failureThreshold, 60_000,
+                maxAttempts, 1, 5); // retry: attempts, initial/max backoff (ms)
+    }
+
+    static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        // Chunked, like Drive exports: the size is only known by reading
+        exchange.sendResponseHeaders(status, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
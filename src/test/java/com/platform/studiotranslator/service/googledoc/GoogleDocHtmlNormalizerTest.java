@@ -0,0 +1,68 @@
+package com.platform.studiotranslator.service.googledoc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GoogleDocHtmlNormalizerTest {
+
+    private static final String STYLES = "<head><style>.c1{font-weight:700}.c2{font-style:italic}"
+            + ".c3{color:#000;font-size:11pt}</style></head>";
+
+    private final GoogleDocHtmlNormalizer normalizer = new GoogleDocHtmlNormalizer();
+
+    @Test
+    void replacesSpanClassesWithSemanticTagsAndStripsStyles() {
+        String html = STYLES + "<body class=\"c5\"><p class=\"c3\" style=\"margin:0\">"
+                + "<span class=\"c3\">plain </span><span class=\"c1\">bold</span>"
+                + "<span style=\"font-style: italic\"> italic</span></p></body>";
+
+        assertThat(normalizer.normalize(html)).isEqualTo("<p>plain<strong> bold</strong><em> italic</em></p>");
+    }
+
+    @Test
+    void collapsesEmptyAndAdjacentIdenticalSpans() {
+        String html = STYLES + "<p><span class=\"c1\">one</span><span class=\"c3\"></span>"
+                + "<span class=\"c1\"> two</span>   <span class=\"c2\">   </span>three</p>";
+
+        assertThat(normalizer.normalize(html)).isEqualTo("<p><strong>one two</strong> three</p>");
+    }
+
+    @Test
+    void escapesEveryKeptAttributeValue() {
+        String html = "<p><img src=\"https://example.com/a.png\" alt=\"&quot;><script>x</script>\" title='a\"b'></p>"
+                + "<table><tr><td colspan=\"2&quot; onclick=&quot;x\">c</td></tr></table>";
+
+        assertThat(normalizer.normalize(html)).isEqualTo(
+                "<p><img src=\"https://example.com/a.png\" alt=\"&quot;&gt;&lt;script&gt;x&lt;/script&gt;\" title=\"a&quot;b\"></p>"
+                        + "<table><tr><td colspan=\"2&quot; onclick=&quot;x\">c</td></tr></table>");
+    }
+
+    @Test
+    void unwrapsGoogleRedirectsToWebTargets() {
+        String html = "<p><a href=\"https://www.google.com/url?q=https://example.com/a?b%3D1%26c%3D2&amp;sa=D&amp;ust=1\">"
+                + "link</a></p>";
+
+        assertThat(normalizer.normalize(html)).isEqualTo("<p><a href=\"https://example.com/a?b=1&amp;c=2\">link</a></p>");
+    }
+
+    @Test
+    void keepsRedirectsToOtherSchemesWrapped() {
+        String redirect = "https://www.google.com/url?q=javascript:alert(1)&amp;sa=D";
+        String html = "<p><a href=\"" + redirect + "\">a</a><a href=\"https://google.com/url?q=data:text/html,x\">b</a></p>";
+
+        assertThat(normalizer.normalize(html)).isEqualTo("<p><a href=\"" + redirect + "\">a</a>"
+                + "<a href=\"https://google.com/url?q=data:text/html,x\">b</a></p>");
+    }
+
+    @Test
+    void dropsUrlsWithUnsafeSchemes() {
+        String html = "<p><a href=\"javascript:alert(1)\">a</a> <a href=\" JaVa\tScRipt:x\">b</a>"
+                + " <a href=\"mailto:me@example.com\">c</a> <a href=\"#h.heading\">d</a>"
+                + "<img src=\"data:image/png;base64,AAAA\" alt=\"i\"></p>";
+
+        // The two now identical <a> merge, like adjacent identical formatting does
+        assertThat(normalizer.normalize(html)).isEqualTo("<p><a>a b</a>"
+                + "<a href=\"mailto:me@example.com\"> c</a><a href=\"#h.heading\"> d</a><img alt=\"i\"></p>");
+    }
+}
@@ -0,0 +1,94 @@
+package com.platform.studiotranslator.service.revision;
+
+import com.platform.studiotranslator.entity.ChapterRevisionEntity;
+import com.platform.studiotranslator.repository.ChapterRevisionRepository;
+import com.platform.studiotranslator.util.HashUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records a history of edits and reads every revision back, against an in-memory stand-in for the table.
+ */
+class ChapterRevisionStoreTest {
+
+    private static final UUID CHAPTER = UUID.randomUUID();
+
+    private final List<ChapterRevisionEntity> rows = new ArrayList<>();
+    private final ChapterRevisionStore store = new ChapterRevisionStore(repository(), new SimpleMeterRegistry(), 4);
+
+    @Test
+    void reconstructsEveryRevisionOfADeltaChain() {
+        List<String> history = new ArrayList<>();
+        StringBuilder html = new StringBuilder();
+        // Random text, so a snapshot does not gzip down to almost nothing
+        Random random = new Random(7);
+        for (int i = 0; i < 40; i++) {
+            html.append("<p>Paragraph ").append(i).append(' ');
+            random.ints(30, 'a', 'z' + 1).forEach(c -> html.append((char) c));
+            html.append("</p>");
+        }
+        history.add(html.toString());
+        for (int revision = 1; revision < 10; revision++) {
+            String previous = history.getLast();
+            history.add(previous.replace("Paragraph " + revision + " ", "Edited paragraph " + revision + " ")
+                    + "<p>Added in revision " + revision + "</p>");
+        }
+        history.forEach(this::record);
+
+        // Snapshots every 4th revision (1, 5, 9), deltas in between
+        assertThat(rows).extracting(ChapterRevisionEntity::getSnapshotRevision)
+                .containsExactly(1, 1, 1, 1, 5, 5, 5, 5, 9, 9);
+        for (int number = 1; number <= history.size(); number++) {
+            List<String> paragraphs = store.reconstruct(store.findRevision(CHAPTER, number));
+            assertThat(String.join("", paragraphs)).isEqualTo(history.get(number - 1));
+        }
+    }
+
+    @Test
+    void skipsUnchangedContentAndStoresRewritesAsSnapshots() {
+        record("<p>first</p>");
+        record("<p>first</p>");
+        record("<p>completely</p><p>different</p>");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.getLast().isSnapshot()).isTrue();
+        assertThat(String.join("", store.reconstruct(store.findRevision(CHAPTER, 2))))
+                .isEqualTo("<p>completely</p><p>different</p>");
+    }
+
+    private void record(String html) {
+        store.record(CHAPTER, html, HashUtils.sha256Hex(html), 0);
+    }
+
+    private ChapterRevisionRepository repository() {
+        return (ChapterRevisionRepository) Proxy.newProxyInstance(ChapterRevisionRepository.class.getClassLoader(),
+                new Class<?>[]{ChapterRevisionRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> {
+                        rows.add((ChapterRevisionEntity) args[0]);
+                        yield args[0];
+                    }
+                    case "findFirstByChapterIdOrderByRevisionNumberDesc" -> rows.stream()
+                            .filter(row -> row.getChapterId().equals(args[0]))
+                            .max(Comparator.comparing(ChapterRevisionEntity::getRevisionNumber));
+                    case "findByChapterIdAndRevisionNumber" -> rows.stream()
+                            .filter(row -> row.getChapterId().equals(args[0]) && row.getRevisionNumber().equals(args[1]))
+                            .findFirst();
+                    case "findByChapterIdAndRevisionNumberBetweenOrderByRevisionNumberAsc" -> rows.stream()
+                            .filter(row -> row.getChapterId().equals(args[0])
+                                    && row.getRevisionNumber() >= (Integer) args[1] && row.getRevisionNumber() <= (Integer) args[2])
+                            .sorted(Comparator.comparing(ChapterRevisionEntity::getRevisionNumber))
+                            .toList();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,94 @@
+package com.platform.studiotranslator.service.revision;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ParagraphDiff} and {@link RevisionDelta} together: applying the delta of a diff to its base must give
+ * back the target exactly.
+ */
+class RevisionDeltaTest {
+
+    private static final List<String> CHAPTER = paragraphs("a", "b", "c", "d", "e");
+
+    @Test
+    void emptyDocuments() {
+        assertRoundTrip(List.of(), List.of());
+        assertRoundTrip(List.of(), CHAPTER);
+        assertRoundTrip(CHAPTER, List.of());
+    }
+
+    @Test
+    void identicalDocumentsAreOneCopy() {
+        assertRoundTrip(CHAPTER, CHAPTER);
+        assertThat(ParagraphDiff.diff(CHAPTER, CHAPTER, ParagraphDiff.MAX_EDITS))
+                .containsExactly(new ParagraphDiff.Edit(ParagraphDiff.Op.EQUAL, 0, 0, 5));
+    }
+
+    @Test
+    void fullyReplacedDocument() {
+        assertRoundTrip(CHAPTER, paragraphs("v", "w", "x", "y", "z", "zz"));
+    }
+
+    @Test
+    void insertOnly() {
+        assertRoundTrip(CHAPTER, paragraphs("new", "a", "b", "new", "c", "d", "e", "new"));
+    }
+
+    @Test
+    void deleteOnly() {
+        assertRoundTrip(CHAPTER, paragraphs("b", "d"));
+    }
+
+    @Test
+    void mixedEditsInTheMiddle() {
+        assertRoundTrip(CHAPTER, paragraphs("a", "B", "c", "x", "y", "e"));
+    }
+
+    @Test
+    void randomEdits() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<String> base = IntStream.range(0, random.nextInt(40)).mapToObj(i -> "<p>" + random.nextInt(10) + "</p>").toList();
+            List<String> target = new ArrayList<>(base);
+            for (int edit = random.nextInt(6); edit > 0; edit--) {
+                if (!target.isEmpty() && random.nextBoolean()) target.remove(random.nextInt(target.size()));
+                else target.add(random.nextInt(target.size() + 1), "<p>" + random.nextInt(10) + "</p>");
+            }
+            assertRoundTrip(base, target);
+        }
+    }
+
+    @Test
+    void splitKeepsEveryCharacter() {
+        String html = "<h1>Title</h1><p>one</p>line<br>two<hr><ul><li>x</li></ul>tail";
+
+        assertThat(ParagraphDiff.split(html))
+                .containsExactly("<h1>Title</h1>", "<p>one</p>", "line<br>", "two<hr>", "<ul><li>x</li>", "</ul>", "tail");
+        assertThat(String.join("", ParagraphDiff.split(html))).isEqualTo(html);
+    }
+
+    @Test
+    void givesUpPastTheEditLimit() {
+        assertThat(ParagraphDiff.diff(CHAPTER, paragraphs("v", "w", "x", "y", "z"), 4)).isNull();
+    }
+
+    private static void assertRoundTrip(List<String> base, List<String> target) {
+        List<ParagraphDiff.Edit> edits = ParagraphDiff.diff(base, target, ParagraphDiff.MAX_EDITS);
+        assertThat(edits).isNotNull();
+
+        byte[] delta = RevisionDelta.encode(base.size(), target, edits);
+        assertThat(RevisionDelta.apply(base, delta)).isEqualTo(target);
+    }
+
+    private static List<String> paragraphs(String... texts) {
+        return Arrays.stream(texts).map(text -> "<p>" + text + "</p>").toList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.platform.studiotranslator.service.search;
+
+import com.platform.studiotranslator.constant.SuggestionType;
+import com.platform.studiotranslator.dto.project.AutocompleteSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteIndexTest {
+
+    private final AutocompleteIndex index = new AutocompleteIndex(100);
+
+    @Test
+    void matchesPrefixesOfAnyWordStartsWithFirstWordFirst() {
+        index.putProject(UUID.randomUUID(), "the-lord-of-the-rings", "The Lord of the Rings", "J. R. R. Tolkien");
+        index.putProject(UUID.randomUUID(), "lord-of-light", "Lord of Light", "Roger Zelazny");
+
+        assertThat(texts(index.suggest("lord", 10))).containsExactly("Lord of Light", "The Lord of the Rings");
+        assertThat(texts(index.suggest("tolk", 10))).containsExactly("J. R. R. Tolkien");
+    }
+
+    @Test
+    void toleratesTyposAndAccents() {
+        index.putProject(UUID.randomUUID(), "the-moneychangers", "The Moneychangers", "Arthur Hailey");
+        index.putTranslator(UUID.randomUUID(), "José Müller");
+
+        assertThat(texts(index.suggest("monychangers", 10))).containsExactly("The Moneychangers");
+        assertThat(texts(index.suggest("jose mul", 10))).containsExactly("José Müller");
+    }
+
+    @Test
+    void sharesAuthorsAcrossProjectsUntilTheLastOneGoes() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        index.putProject(first, "dune", "Dune", "Frank Herbert");
+        index.putProject(second, "dune-messiah", "Dune Messiah", "Frank Herbert");
+
+        assertThat(index.suggest("frank", 10)).extracting(AutocompleteSuggestion::type).containsExactly(SuggestionType.AUTHOR);
+
+        index.removeProject(first);
+        assertThat(texts(index.suggest("frank", 10))).containsExactly("Frank Herbert");
+
+        index.putProject(second, "dune-messiah", "Dune Messiah", "F. Herbert");
+        assertThat(index.suggest("frank", 10)).isEmpty();
+        assertThat(texts(index.suggest("dune", 10))).containsExactly("Dune Messiah");
+    }
+
+    @Test
+    void reportsIncompleteOnceFull() {
+        AutocompleteIndex small = new AutocompleteIndex(2);
+        small.putProject(UUID.randomUUID(), "a", "Solaris", "Stanisław Lem");
+        assertThat(small.isComplete()).isTrue();
+
+        small.putProject(UUID.randomUUID(), "b", "Roadside Picnic", "Strugatsky");
+        assertThat(small.isComplete()).isFalse();
+        assertThat(small.size()).isEqualTo(2);
+    }
+
+    private static List<String> texts(List<AutocompleteSuggestion> suggestions) {
+        return suggestions.stream().map(AutocompleteSuggestion::text).toList();
+    }
+}
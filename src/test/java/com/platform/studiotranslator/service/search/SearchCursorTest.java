@@ -0,0 +1,43 @@
+package com.platform.studiotranslator.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    void roundTripsRankBitForBitAndId() {
+        UUID id = UUID.randomUUID();
+        float rank = Math.nextUp(0.0607927f);
+
+        SearchCursor decoded = SearchCursor.decode(new SearchCursor(rank, id).encode());
+
+        assertThat(Float.floatToRawIntBits(decoded.rank())).isEqualTo(Float.floatToRawIntBits(rank));
+        assertThat(decoded.id()).isEqualTo(id);
+    }
+
+    @Test
+    void encodesToAnUnpaddedUrlSafeString() {
+        String cursor = new SearchCursor(-1f, new UUID(-1L, -1L)).encode();
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+").hasSize(27);
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        String tooShort = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[19]);
+        String tooLong = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[21]);
+
+        for (String cursor : new String[]{"", "not base64!", "a+b/", tooShort, tooLong}) {
+            assertThatThrownBy(() -> SearchCursor.decode(cursor))
+                    .as(cursor)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid search cursor");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.platform.studiotranslator.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import static com.platform.studiotranslator.service.search.ProjectSearchIndex.HIGHLIGHT_END;
+import static com.platform.studiotranslator.service.search.ProjectSearchIndex.HIGHLIGHT_START;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchHighlightsTest {
+
+    @Test
+    void turnsMarkersIntoMarkTags() {
+        String highlighted = "The " + HIGHLIGHT_START + "Lord" + HIGHLIGHT_END + " of the Rings";
+
+        assertThat(SearchHighlights.toHtml(highlighted)).isEqualTo("The <mark>Lord</mark> of the Rings");
+    }
+
+    @Test
+    void escapesTheTextBeforeAddingTags() {
+        String highlighted = "<script>alert('x')</script> & " + HIGHLIGHT_START + "\"quoted\"" + HIGHLIGHT_END + " <mark>";
+
+        assertThat(SearchHighlights.toHtml(highlighted)).isEqualTo(
+                "&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; <mark>&quot;quoted&quot;</mark> &lt;mark&gt;");
+    }
+
+    @Test
+    void passesNullThrough() {
+        assertThat(SearchHighlights.toHtml(null)).isNull();
+    }
+}
@@ -0,0 +1,125 @@
+package com.platform.studiotranslator.service.sync;
+
+import com.platform.studiotranslator.constant.ChapterStatus;
+import com.platform.studiotranslator.entity.ChapterRevisionEntity;
+import com.platform.studiotranslator.repository.ChapterRevisionRepository;
+import com.platform.studiotranslator.service.cache.ChapterPayloadCache;
+import com.platform.studiotranslator.service.content.ChapterContentStorage;
+import com.platform.studiotranslator.service.googledoc.DocumentRevision;
+import com.platform.studiotranslator.service.revision.ChapterRevisionStore;
+import com.platform.studiotranslator.util.HashUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batch writes against an in-memory stand-in for the chapters table, which applies the statements'
+ * status condition and status assignment.
+ */
+class ChapterSyncBatchWriterTest {
+
+    private static final UUID PUBLISHED = UUID.randomUUID();
+    private static final UUID DRAFT = UUID.randomUUID();
+
+    private final Map<UUID, ChapterStatus> statuses = new HashMap<>(Map.of(
+            PUBLISHED, ChapterStatus.PUBLISHED, DRAFT, ChapterStatus.DRAFT));
+    private final Map<UUID, String> contents = new HashMap<>();
+    private final List<ChapterRevisionEntity> revisions = new ArrayList<>();
+
+    private final ChapterContentStorage contentStorage = new ChapterContentStorage();
+    private final ChapterSyncBatchWriter writer = new ChapterSyncBatchWriter(
+            new ChaptersTable(),
+            new TransactionTemplate() {
+                @Override
+                public <T> T execute(TransactionCallback<T> action) {
+                    return action.doInTransaction(new SimpleTransactionStatus());
+                }
+            },
+            contentStorage,
+            new ChapterRevisionStore(revisionRepository(), new SimpleMeterRegistry(), 10),
+            new ChapterPayloadCache(JsonMapper.builder().build(), new SimpleMeterRegistry(), 1024));
+
+    @Test
+    void resyncLeavesDraftsAsDrafts() {
+        writer.write(List.of(fetched(PUBLISHED, "<p>published, edited</p>"), fetched(DRAFT, "<p>draft, edited</p>")));
+
+        assertThat(statuses).containsEntry(PUBLISHED, ChapterStatus.PUBLISHED).containsEntry(DRAFT, ChapterStatus.DRAFT);
+        assertThat(contents).containsEntry(PUBLISHED, "<p>published, edited</p>").containsEntry(DRAFT, "<p>draft, edited</p>");
+        // Only published content goes into the revision history
+        assertThat(revisions).extracting(ChapterRevisionEntity::getChapterId).containsExactly(PUBLISHED);
+    }
+
+    @Test
+    void draftRefreshesSkipChaptersPublishedInTheMeantime() {
+        writer.writeDrafts(List.of(fetched(PUBLISHED, "<p>published</p>"), fetched(DRAFT, "<p>draft</p>")));
+
+        assertThat(contents).containsOnlyKeys(DRAFT);
+        assertThat(statuses).containsEntry(DRAFT, ChapterStatus.DRAFT);
+        assertThat(revisions).isEmpty();
+    }
+
+    private FetchedChapter fetched(UUID chapterId, String html) {
+        return new FetchedChapter(chapterId, new DocumentRevision(2L, Instant.now()), contentStorage.encode(html),
+                HashUtils.sha256Hex(html), 2, true);
+    }
+
+    /**
+     * Understands the writer's content updates: {@code status = 'PUBLISHED'} / {@code status <> 'PUBLISHED'}
+     * in the WHERE clause, and an assignment of the status in the SET clause.
+     */
+    private final class ChaptersTable extends JdbcTemplate {
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            String set = sql.substring(0, sql.indexOf("WHERE"));
+            String where = sql.substring(sql.indexOf("WHERE"));
+            int[] updated = new int[batchArgs.size()];
+
+            for (int i = 0; i < batchArgs.size(); i++) {
+                Object[] args = batchArgs.get(i);
+                UUID id = (UUID) args[args.length - 1];
+                boolean published = statuses.get(id) == ChapterStatus.PUBLISHED;
+                if (where.contains("status = 'PUBLISHED'") && !published) continue;
+                if (where.contains("status <> 'PUBLISHED'") && published) continue;
+
+                if (set.contains("content = ?")) {
+                    contents.put(id, (String) ((SqlParameterValue) args[0]).getValue());
+                }
+                if (set.contains("status = 'PUBLISHED'")) {
+                    statuses.put(id, ChapterStatus.PUBLISHED);
+                }
+                updated[i] = 1;
+            }
+            return updated;
+        }
+    }
+
+    private ChapterRevisionRepository revisionRepository() {
+        return (ChapterRevisionRepository) Proxy.newProxyInstance(ChapterRevisionRepository.class.getClassLoader(),
+                new Class<?>[]{ChapterRevisionRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> {
+                        revisions.add((ChapterRevisionEntity) args[0]);
+                        yield args[0];
+                    }
+                    case "findFirstByChapterIdOrderByRevisionNumberDesc" -> Optional.empty();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,76 @@
+package com.platform.studiotranslator.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.Character.UnicodeScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordCounterTest {
+
+    @Test
+    void skipsMarkupCommentsAndRawText() {
+        String html = "<style>.c1 { font-weight: 700 }</style><p class=\"c1\" title=\"not counted\">one two</p>"
+                + "<!-- three four --><script>var five = 6;</script><p>three</p>";
+
+        assertThat(WordCounter.countWords(html)).isEqualTo(3);
+    }
+
+    @Test
+    void formattingTagsDoNotSplitWordsButBlocksDo() {
+        assertThat(WordCounter.countWords("<p>un<strong>believ</strong><em>able</em></p>")).isEqualTo(1);
+        assertThat(WordCounter.countWords("<p>end</p><p>start</p>")).isEqualTo(2);
+        assertThat(WordCounter.countWords("line<br>break")).isEqualTo(2);
+    }
+
+    @Test
+    void decodesEntitiesInPlace() {
+        // &nbsp; and &mdash; separate, &rsquo; joins, named letters are letters, numeric references are decoded
+        assertThat(WordCounter.countWords("a&nbsp;b&mdash;c")).isEqualTo(3);
+        assertThat(WordCounter.countWords("don&rsquo;t caf&eacute; na&#239;ve")).isEqualTo(3);
+        // A bare ampersand is punctuation
+        assertThat(WordCounter.countWords("AT&T &amp; 5 &lt; 6")).isEqualTo(4);
+    }
+
+    @Test
+    void keepsNumbersAndContractionsTogether() {
+        assertThat(WordCounter.countWords("It's 3.14 or 1,000 well-known words.")).isEqualTo(6);
+        // Only digits hold across '.' and ','
+        assertThat(WordCounter.countWords("end.Start,next")).isEqualTo(3);
+    }
+
+    @Test
+    void countsHanAndKanaPerCharacterAndHangulPerWord() {
+        WordCount chinese = WordCounter.count("<p>我爱读书。</p>");
+        assertThat(chinese.total()).isEqualTo(4);
+        assertThat(chinese.of(UnicodeScript.HAN)).isEqualTo(4);
+
+        WordCount japanese = WordCounter.count("ひらがなとカタカナ");
+        assertThat(japanese.of(UnicodeScript.HIRAGANA)).isEqualTo(5);
+        assertThat(japanese.of(UnicodeScript.KATAKANA)).isEqualTo(4);
+
+        WordCount korean = WordCounter.count("나는 책을 읽는다.");
+        assertThat(korean.total()).isEqualTo(3);
+        assertThat(korean.of(UnicodeScript.HANGUL)).isEqualTo(3);
+    }
+
+    @Test
+    void splitsMixedScriptText() {
+        WordCount count = WordCounter.count("<p>Harry Potter与魔法石 (2001), Привет мир, 안녕</p>");
+
+        assertThat(count.of(UnicodeScript.LATIN)).isEqualTo(2);
+        assertThat(count.of(UnicodeScript.HAN)).isEqualTo(4);
+        assertThat(count.of(UnicodeScript.COMMON)).isEqualTo(1);
+        assertThat(count.of(UnicodeScript.CYRILLIC)).isEqualTo(2);
+        assertThat(count.of(UnicodeScript.HANGUL)).isEqualTo(1);
+        assertThat(count.total()).isEqualTo(10);
+        assertThat(WordCounter.countWords("<p>Harry Potter与魔法石 (2001), Привет мир, 안녕</p>")).isEqualTo(10);
+    }
+
+    @Test
+    void emptyInput() {
+        assertThat(WordCounter.countWords(null)).isZero();
+        assertThat(WordCounter.count("")).isEqualTo(WordCount.EMPTY);
+        assertThat(WordCounter.countWords("<p> </p><br>")).isZero();
+    }
+}